@@ -0,0 +1,48 @@
+package org.powerbot.bot;
+
+import java.util.Arrays;
+
+/**
+ * IntStruct
+ * A fixed set of hooked int fields which are read from one object together.
+ */
+public final class IntStruct {
+	private final Reflector.FieldCache[] fields;
+
+	public IntStruct(final Reflector.FieldCache... fields) {
+		this.fields = fields;
+	}
+
+	public int size() {
+		return fields.length;
+	}
+
+	/**
+	 * Reads every field of the struct.
+	 *
+	 * @param proxy the object to read from
+	 * @return the values, in the order the fields were declared; all {@code 0} if the object is null
+	 */
+	public int[] read(final ReflectProxy proxy) {
+		return read(proxy, new int[fields.length]);
+	}
+
+	/**
+	 * Reads every field of the struct into an existing array.
+	 *
+	 * @param proxy the object to read from
+	 * @param dest  the array to fill, of at least {@link #size()} length
+	 * @return {@code dest}
+	 */
+	public int[] read(final ReflectProxy proxy, final int[] dest) {
+		if (proxy == null || proxy.isNull()) {
+			Arrays.fill(dest, 0, fields.length, 0);
+			return dest;
+		}
+		final Reflector reflector = proxy.reflector;
+		for (int i = 0; i < fields.length; i++) {
+			dest[i] = reflector.accessInt(proxy, fields[i]);
+		}
+		return dest;
+	}
+}
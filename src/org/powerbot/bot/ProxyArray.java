@@ -0,0 +1,74 @@
+package org.powerbot.bot;
+
+/**
+ * ProxyArray
+ * A view of a client array which only wraps the elements that are read.
+ *
+ * @param <T> the type the elements are wrapped in; a proxy, or another view for nested arrays
+ */
+public abstract class ProxyArray<T> {
+	private static final Object[] EMPTY = new Object[0];
+	protected final Reflector reflector;
+	private final Object[] arr;
+
+	public ProxyArray(final Reflector reflector, final Object[] arr) {
+		this.reflector = reflector;
+		this.arr = arr != null ? arr : EMPTY;
+	}
+
+	/**
+	 * Wraps an element of the client array.
+	 *
+	 * @param reflector the reflector
+	 * @param o         the raw element, which may be {@code null}
+	 * @return the proxy
+	 */
+	protected abstract T create(final Reflector reflector, final Object o);
+
+	public int length() {
+		return arr.length;
+	}
+
+	/**
+	 * Returns the raw element at an index without wrapping it.
+	 *
+	 * @param index the index
+	 * @return the element; or {@code null} if empty or out of range
+	 */
+	public Object raw(final int index) {
+		return index >= 0 && index < arr.length ? arr[index] : null;
+	}
+
+	public boolean isNull(final int index) {
+		return raw(index) == null;
+	}
+
+	/**
+	 * Wraps the element at an index.
+	 *
+	 * @param index the index
+	 * @return the wrapped element, which is null or empty if the element is empty or out of range
+	 */
+	public T get(final int index) {
+		return create(reflector, raw(index));
+	}
+
+	/**
+	 * Determines the index of the element wrapped by a proxy.
+	 *
+	 * @param proxy the proxy
+	 * @return the index; or {@code -1} if not within this array
+	 */
+	public int indexOf(final ReflectProxy proxy) {
+		final Object o = proxy != null ? proxy.obj.get() : null;
+		if (o == null) {
+			return -1;
+		}
+		for (int i = 0; i < arr.length; i++) {
+			if (arr[i] == o) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,28 @@
+package org.powerbot.bot;
+
+import java.awt.Graphics;
+import java.util.List;
+
+import org.powerbot.script.ClientAccessor;
+import org.powerbot.script.ClientContext;
+import org.powerbot.script.MetricsRegistry;
+import org.powerbot.script.TextPaintListener;
+
+import static org.powerbot.bot.DebugHelper.drawLine;
+
+public class TMetrics<C extends ClientContext> extends ClientAccessor<C> implements TextPaintListener {
+	private static final int LINES = 16;
+
+	public TMetrics(final C ctx) {
+		super(ctx);
+	}
+
+	public int draw(int idx, final Graphics render) {
+		final List<MetricsRegistry.Metric> metrics = ctx.metrics.metrics();
+		for (int i = 0; i < Math.min(LINES, metrics.size()); i++) {
+			final MetricsRegistry.Metric m = metrics.get(i);
+			drawLine(render, idx++, String.format("%s: N: %d, AVG: %.1f, P95: %d, MAX: %d", m.name(), m.count(), m.mean(), m.percentile(.95d), m.max()));
+		}
+		return idx;
+	}
+}
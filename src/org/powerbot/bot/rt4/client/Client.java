@@ -1,5 +1,7 @@
 package org.powerbot.bot.rt4.client;
 
+import org.powerbot.bot.IntStruct;
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 import org.powerbot.script.ClientContext;
@@ -71,6 +73,7 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 			bl = new Reflector.FieldCache(),
 			bm = new Reflector.FieldCache(),
 			bn = new Reflector.FieldCache();
+	private static final IntStruct camera = new IntStruct(a, b, c, e, d, bl);
 
 	public Client(final Reflector engine, final Object parent) {
 		super(engine, parent);
@@ -96,6 +99,15 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return reflector.accessInt(this, e);
 	}
 
+	/**
+	 * Reads the camera state in one call.
+	 *
+	 * @return {x, y, z, pitch, yaw, tile size}
+	 */
+	public int[] getCamera() {
+		return camera.read(this);
+	}
+
 	public int getMinimapAngle() {
 		return reflector.accessInt(this, f);
 	}
@@ -123,6 +135,20 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return arr2;
 	}
 
+	public ProxyArray<Player> getPlayerArray() {
+		return new ProxyArray<Player>(reflector, reflector.access(this, j, Object[].class)) {
+			@Override
+			protected Player create(final Reflector reflector, final Object o) {
+				return new Player(reflector, o);
+			}
+		};
+	}
+
+	public Player getPlayerAt(final int index) {
+		final Object[] arr = reflector.access(this, j, Object[].class);
+		return new Player(reflector, arr != null && index >= 0 && index < arr.length ? arr[index] : null);
+	}
+
 	public int[] getPlayerIndices() {
 		return reflector.accessInts(this, k);
 	}
@@ -138,6 +164,20 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return arr2;
 	}
 
+	public ProxyArray<Npc> getNpcArray() {
+		return new ProxyArray<Npc>(reflector, reflector.access(this, l, Object[].class)) {
+			@Override
+			protected Npc create(final Reflector reflector, final Object o) {
+				return new Npc(reflector, o);
+			}
+		};
+	}
+
+	public Npc getNpcAt(final int index) {
+		final Object[] arr = reflector.access(this, l, Object[].class);
+		return new Npc(reflector, arr != null && index >= 0 && index < arr.length ? arr[index] : null);
+	}
+
 	public int[] getNpcIndices() {
 		return reflector.accessInts(this, m);
 	}
@@ -243,6 +283,20 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return arr2;
 	}
 
+	public ProxyArray<ProxyArray<Widget>> getWidgetArray() {
+		return new ProxyArray<ProxyArray<Widget>>(reflector, reflector.access(this, ah, Object[].class)) {
+			@Override
+			protected ProxyArray<Widget> create(final Reflector reflector, final Object o) {
+				return new ProxyArray<Widget>(reflector, (Object[]) o) {
+					@Override
+					protected Widget create(final Reflector reflector, final Object o) {
+						return new Widget(reflector, o);
+					}
+				};
+			}
+		};
+	}
+
 	public HashTable getWidgetTable() {
 		return new HashTable(reflector, reflector.access(this, ai));
 	}
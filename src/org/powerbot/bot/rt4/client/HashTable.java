@@ -1,5 +1,6 @@
 package org.powerbot.bot.rt4.client;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 
@@ -22,6 +23,15 @@ public class HashTable extends ReflectProxy {
 		return arr2;
 	}
 
+	public ProxyArray<Node> getBucketArray() {
+		return new ProxyArray<Node>(reflector, reflector.access(this, a, Object[].class)) {
+			@Override
+			protected Node create(final Reflector reflector, final Object o) {
+				return new Node(reflector, o);
+			}
+		};
+	}
+
 	public int getSize() {
 		return reflector.accessInt(this, b);
 	}
@@ -1,5 +1,6 @@
 package org.powerbot.bot.rt4.client;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 
@@ -39,4 +40,30 @@ public class Landscape extends ReflectProxy {
 		}
 		return arr2;
 	}
+
+	public ProxyArray<ProxyArray<Tile>> getTileArray(final int floor) {
+		final Object[][][] arr = reflector.access(this, a, Object[][][].class);
+		return new ProxyArray<ProxyArray<Tile>>(reflector, arr != null && floor >= 0 && floor < arr.length ? arr[floor] : null) {
+			@Override
+			protected ProxyArray<Tile> create(final Reflector reflector, final Object o) {
+				return new ProxyArray<Tile>(reflector, (Object[]) o) {
+					@Override
+					protected Tile create(final Reflector reflector, final Object o) {
+						return new Tile(reflector, o);
+					}
+				};
+			}
+		};
+	}
+
+	public Tile getTile(final int floor, final int x, final int y) {
+		final Object[][][] arr = reflector.access(this, a, Object[][][].class);
+		final Object[][] sub;
+		final Object[] sub2;
+		if (arr == null || floor < 0 || floor >= arr.length || (sub = arr[floor]) == null ||
+				x < 0 || x >= sub.length || (sub2 = sub[x]) == null || y < 0 || y >= sub2.length) {
+			return new Tile(reflector, null);
+		}
+		return new Tile(reflector, sub2[y]);
+	}
 }
@@ -1,5 +1,6 @@
 package org.powerbot.bot.rt4.client;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 
@@ -44,6 +45,15 @@ public class Tile extends ReflectProxy {
 		return arr2;
 	}
 
+	public ProxyArray<GameObject> getGameObjectArray() {
+		return new ProxyArray<GameObject>(reflector, reflector.access(this, e, Object[].class)) {
+			@Override
+			protected GameObject create(final Reflector reflector, final Object o) {
+				return new GameObject(reflector, o);
+			}
+		};
+	}
+
 	public int getGameObjectLength() {
 		return reflector.accessInt(this, f);
 	}
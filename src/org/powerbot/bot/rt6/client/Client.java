@@ -2,6 +2,8 @@ package org.powerbot.bot.rt6.client;
 
 import java.awt.Rectangle;
 
+import org.powerbot.bot.IntStruct;
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 import org.powerbot.script.ClientContext;
@@ -61,6 +63,7 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 			az = new Reflector.FieldCache(),
 			ba = new Reflector.FieldCache(),
 			bb = new Reflector.FieldCache();
+	private static final IntStruct menu = new IntStruct(ah, l, x, am, al, h, y);
 
 	public Client(final Reflector engine, final Object parent) {
 		super(engine, parent);
@@ -157,6 +160,20 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return arr2;
 	}
 
+	public ProxyArray<Player> getPlayerArray() {
+		return new ProxyArray<Player>(reflector, reflector.access(this, u, Object[].class)) {
+			@Override
+			protected Player create(final Reflector reflector, final Object o) {
+				return new Player(reflector, o);
+			}
+		};
+	}
+
+	public Player getPlayerAt(final int index) {
+		final Object[] arr = reflector.access(this, u, Object[].class);
+		return new Player(reflector, arr != null && index >= 0 && index < arr.length ? arr[index] : null);
+	}
+
 	public int[] getPlayerIndices() {
 		return reflector.accessInts(this, v);
 	}
@@ -197,6 +214,15 @@ public class Client extends ReflectProxy implements org.powerbot.script.Client {
 		return reflector.accessInt(this, ag);
 	}
 
+	/**
+	 * Reads the menu bounds in one call.
+	 *
+	 * @return {x, y, width, height, sub menu x, sub menu y, sub menu width}
+	 */
+	public int[] getMenu() {
+		return menu.read(this);
+	}
+
 	public int getMenuX() {
 		return reflector.accessInt(this, ah);
 	}
@@ -1,5 +1,6 @@
 package org.powerbot.bot.rt6.client;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 
@@ -20,4 +21,13 @@ public class HashTable extends ReflectProxy {
 		}
 		return arr2;
 	}
+
+	public ProxyArray<Node> getBucketArray() {
+		return new ProxyArray<Node>(reflector, reflector.access(this, a, Object[].class)) {
+			@Override
+			protected Node create(final Reflector reflector, final Object o) {
+				return new Node(reflector, o);
+			}
+		};
+	}
 }
@@ -1,5 +1,6 @@
 package org.powerbot.bot.rt6.client;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 
@@ -51,4 +52,19 @@ public class Landscape extends ReflectProxy {
 		}
 		return arr2;
 	}
+
+	public ProxyArray<ProxyArray<Tile>> getTileArray(final int floor) {
+		final Object[][][] arr = reflector.access(this, b, Object[][][].class);
+		return new ProxyArray<ProxyArray<Tile>>(reflector, arr != null && floor >= 0 && floor < arr.length ? arr[floor] : null) {
+			@Override
+			protected ProxyArray<Tile> create(final Reflector reflector, final Object o) {
+				return new ProxyArray<Tile>(reflector, (Object[]) o) {
+					@Override
+					protected Tile create(final Reflector reflector, final Object o) {
+						return new Tile(reflector, o);
+					}
+				};
+			}
+		};
+	}
 }
@@ -18,4 +18,8 @@ public class RenderableNode extends ReflectProxy {
 	public RenderableEntity getEntity() {
 		return new RenderableEntity(reflector, reflector.access(this, b));
 	}
+
+	public Object getEntityObject() {
+		return reflector.access(this, b);
+	}
 }
@@ -1,14 +1,13 @@
 package org.powerbot.script;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
 
 /**
  * AbstractQuery
@@ -19,8 +18,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * @param <C> the {@link ClientContext}
  */
 public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C extends ClientContext> extends ClientAccessor<C> implements Iterable<K>, Nillable<K> {
-	private final ThreadLocal<List<K>> items;
-	private final Method set;
+	private final ThreadLocal<QueryBuffer<K>> items;
+	private final String metric;
 
 	/**
 	 * Creates a base {@link AbstractQuery}.
@@ -30,19 +29,16 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	public AbstractQuery(final C ctx) {
 		super(ctx);
 
-		items = new ThreadLocal<List<K>>() {
+		items = new ThreadLocal<QueryBuffer<K>>() {
 			@Override
-			protected List<K> initialValue() {
-				return new CopyOnWriteArrayList<K>(AbstractQuery.this.get());
+			protected QueryBuffer<K> initialValue() {
+				final QueryBuffer<K> items = new QueryBuffer<K>();
+				AbstractQuery.this.set(items, AbstractQuery.this.get());
+				return items;
 			}
 		};
-
-		Method set = null;
-		try {
-			set = CopyOnWriteArrayList.class.getMethod("setArray", Object[].class);
-		} catch (final NoSuchMethodException ignored) {
-		}
-		this.set = set;
+		final String name = getClass().getName();
+		metric = "select." + name.substring(name.lastIndexOf('.') + 1) + ".items";
 	}
 
 	/**
@@ -65,8 +61,9 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T select() {
-		final List<K> items = this.items.get(), a = get();
-		setArray(items, a);
+		final List<K> a = get();
+		ctx.metrics.record(metric, a.size());
+		set(items.get(), a);
 		return getThis();
 	}
 
@@ -78,11 +75,24 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T select(final Iterable<K> c) {
-		final List<K> items = this.items.get(), a = new ArrayList<K>();
-		for (final K k : c) {
-			a.add(k);
+		if (c instanceof Collection) {
+			set(items.get(), (Collection<K>) c);
+			return getThis();
+		}
+		final QueryBuffer<K> items = this.items.get();
+		Object[] a = items.begin(items.size());
+		int n = 0;
+		try {
+			for (final K k : c) {
+				if (n == a.length) {
+					a = Arrays.copyOf(a, Math.max(10, n + (n >> 1)));
+				}
+				a[n++] = k;
+			}
+			items.commit(a, n);
+		} finally {
+			items.end();
 		}
-		setArray(items, a);
 		return getThis();
 	}
 
@@ -94,13 +104,22 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T select(final Filter<? super K> f) {
-		final List<K> items = this.items.get(), a = new ArrayList<K>(items.size());
-		for (final K k : items) {
-			if (f.accept(k)) {
-				a.add(k);
+		final QueryBuffer<K> items = this.items.get();
+		final int size = items.size();
+		final Object[] a = items.begin(size), src = items.array();
+		int n = 0;
+		try {
+			for (int i = 0; i < size; i++) {
+				@SuppressWarnings("unchecked")
+				final K k = (K) src[i];
+				if (f.accept(k)) {
+					a[n++] = k;
+				}
 			}
+			items.commit(a, n);
+		} finally {
+			items.end();
 		}
-		setArray(items, a);
 		return getThis();
 	}
 
@@ -111,21 +130,64 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T sort(final Comparator<? super K> c) {
-		final List<K> items = this.items.get(), a = new ArrayList<K>(items);
-		Collections.sort(a, c);
-		setArray(items, a);
+		final QueryBuffer<K> items = this.items.get();
+		final int size = items.size();
+		final Object[] a = items.begin(size);
+		try {
+			System.arraycopy(items.array(), 0, a, 0, size);
+			@SuppressWarnings("unchecked")
+			final Comparator<Object> o = (Comparator<Object>) c;
+			Arrays.sort(a, 0, size, o);
+			items.commit(a, size);
+		} finally {
+			items.end();
+		}
 		return getThis();
 	}
 
+	/**
+	 * Selects the items which have a distance into the query cache, sorted by ascending distance.
+	 *
+	 * @param items     the items
+	 * @param distances the distance of each item, indexed as {@code items}, where {@code -1} excludes an item
+	 * @return {@code this} for the purpose of chaining
+	 */
+	protected T nearest(final List<K> items, final int[] distances) {
+		final Map<K, Integer> d = new IdentityHashMap<K, Integer>(items.size());
+		for (int i = 0; i < distances.length; i++) {
+			if (distances[i] != -1) {
+				d.put(items.get(i), distances[i]);
+			}
+		}
+		return select(new Filter<K>() {
+			@Override
+			public boolean accept(final K k) {
+				return d.containsKey(k);
+			}
+		}).sort(new Comparator<K>() {
+			@Override
+			public int compare(final K o1, final K o2) {
+				return d.get(o1) - d.get(o2);
+			}
+		});
+	}
+
 	/**
 	 * Sorts the items in the query cache by a random rearrangement.
 	 *
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T shuffle() {
-		final List<K> items = this.items.get(), a = new ArrayList<K>(items);
-		Collections.shuffle(a);
-		setArray(items, a);
+		final QueryBuffer<K> items = this.items.get();
+		final int size = items.size();
+		final Object[] a = items.begin(size);
+		try {
+			System.arraycopy(items.array(), 0, a, 0, size);
+			Collections.shuffle(Arrays.asList(a).subList(0, size));
+			items.commit(a, size);
+		} finally {
+			items.end();
+		}
 		return getThis();
 	}
 
@@ -135,24 +197,34 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T reverse() {
-		final List<K> items = this.items.get(), a = new ArrayList<K>(items);
-		Collections.reverse(a);
-		setArray(items, a);
+		final QueryBuffer<K> items = this.items.get();
+		final int size = items.size();
+		final Object[] a = items.begin(size), src = items.array();
+		try {
+			for (int i = 0; i < size; i++) {
+				a[i] = src[size - 1 - i];
+			}
+			items.commit(a, size);
+		} finally {
+			items.end();
+		}
 		return getThis();
 	}
 
-	private void setArray(final List<K> a, final List<K> c) {
-		if (set != null) {
-			try {
-				set.invoke(a, c.toArray());
-				return;
-			} catch (final InvocationTargetException ignored) {
-			} catch (final IllegalAccessException ignored) {
+	private void set(final QueryBuffer<K> items, final Collection<K> c) {
+		final Object[] a = items.begin(c.size());
+		int n = 0;
+		try {
+			for (final K k : c) {
+				if (n == a.length) {
+					break;
+				}
+				a[n++] = k;
 			}
+			items.commit(a, n);
+		} finally {
+			items.end();
 		}
-
-		a.clear();
-		a.addAll(c);
 	}
 
 	/**
@@ -173,12 +245,15 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T limit(final int offset, final int count) {
-		final List<K> items = this.items.get(), a = new ArrayList<K>(count);
-		final int c = Math.min(offset + count, items.size());
-		for (int i = offset; i < c; i++) {
-			a.add(items.get(i));
+		final QueryBuffer<K> items = this.items.get();
+		final int o = Math.max(0, offset), c = Math.max(0, Math.min(offset + count, items.size()) - o);
+		final Object[] a = items.begin(c);
+		try {
+			System.arraycopy(items.array(), o, a, 0, c);
+			items.commit(a, c);
+		} finally {
+			items.end();
 		}
-		setArray(items, a);
 		return getThis();
 	}
 
@@ -198,7 +273,9 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code this} for the purpose of chaining
 	 */
 	public T addTo(final Collection<? super K> c) {
-		c.addAll(items.get());
+		for (final K k : this) {
+			c.add(k);
+		}
 		return getThis();
 	}
 
@@ -207,22 +284,27 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 */
 	@Override
 	public Iterator<K> iterator() {
-		final Iterator<K> i = items.get().iterator();
+		final QueryBuffer<K> items = this.items.get();
+		final int size = items.size();
+		final Object[] a = items.snapshot();
 
 		return new Iterator<K>() {
+			private int i = 0;
+
 			@Override
 			public boolean hasNext() {
-				return i.hasNext();
+				return i < size;
 			}
 
 			@Override
+			@SuppressWarnings("unchecked")
 			public K next() {
-				return hasNext() ? i.next() : nil();
+				return hasNext() ? (K) a[i++] : nil();
 			}
 
 			@Override
 			public void remove() {
-				i.remove();
+				throw new UnsupportedOperationException();
 			}
 		};
 	}
@@ -233,8 +315,8 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return the first item in the query cache, or the value of {@link #nil()} if it is empty
 	 */
 	public K poll() {
-		final List<K> items = this.items.get();
-		if (items.isEmpty()) {
+		final QueryBuffer<K> items = this.items.get();
+		if (items.size() == 0) {
 			return nil();
 		}
 		final K v = items.get(0);
@@ -248,8 +330,8 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return the first item in the query cache, or the value of {@link #nil()} if it is empty
 	 */
 	public K peek() {
-		final List<K> items = this.items.get();
-		return items.isEmpty() ? nil() : items.get(0);
+		final QueryBuffer<K> items = this.items.get();
+		return items.size() == 0 ? nil() : items.get(0);
 	}
 
 	/**
@@ -274,7 +356,7 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code true} if the query cache contains no items
 	 */
 	public boolean isEmpty() {
-		return items.get().isEmpty();
+		return items.get().size() == 0;
 	}
 
 	/**
@@ -284,7 +366,14 @@ public abstract class AbstractQuery<T extends AbstractQuery<T, K, C>, K, C exten
 	 * @return {@code true} if the query cache contains the specified item
 	 */
 	public boolean contains(final K k) {
-		return items.get().contains(k);
+		final QueryBuffer<K> items = this.items.get();
+		for (int i = 0; i < items.size(); i++) {
+			final K e = items.get(i);
+			if (k == null ? e == null : k.equals(e)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -34,6 +34,11 @@ public abstract class ClientContext<C extends Client> {
 	 * The input simulator for sending keyboard and mouse events.
 	 */
 	public final Input input;
+	/**
+	 * The live metrics of the scripts and queries of this {@link org.powerbot.script.Bot}.
+	 */
+	public final MetricsRegistry metrics;
+	final PollScheduler scheduler;
 
 	private final AtomicReference<Bot<? extends ClientContext<C>>> bot;
 	private final AtomicReference<C> client;
@@ -52,6 +57,8 @@ public abstract class ClientContext<C extends Client> {
 		properties = new Properties();
 		dispatcher = new ScriptEventDispatcher<C, EventListener>(this);
 		input = new InputSimulator((AbstractBot) bot);
+		metrics = new MetricsRegistry(properties);
+		scheduler = new PollScheduler(controller, metrics, properties);
 
 		properties.put("trades.allowed", "0");
 	}
@@ -68,6 +75,8 @@ public abstract class ClientContext<C extends Client> {
 		properties = ctx.properties;
 		dispatcher = ctx.dispatcher;
 		input = ctx.input;
+		metrics = ctx.metrics;
+		scheduler = ctx.scheduler;
 	}
 
 	/**
@@ -0,0 +1,150 @@
+package org.powerbot.script;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * CollisionSnapshot
+ * A recorded copy of the collision flags of a loaded scene, which can be stored and used without a game client.
+ */
+public final class CollisionSnapshot {
+	public static final int WALL_NORTHWEST = 0x1;
+	public static final int WALL_NORTH = 0x2;
+	public static final int WALL_NORTHEAST = 0x4;
+	public static final int WALL_EAST = 0x8;
+	public static final int WALL_SOUTHEAST = 0x10;
+	public static final int WALL_SOUTH = 0x20;
+	public static final int WALL_SOUTHWEST = 0x40;
+	public static final int WALL_WEST = 0x80;
+	public static final int OBJECT_TILE = 0x100;
+	public static final int DECORATION_BLOCK = 0x40000;
+	public static final int OBJECT_BLOCK = 0x200000;
+	public static final int BLOCKED = OBJECT_TILE | DECORATION_BLOCK | OBJECT_BLOCK;
+	private final Tile base;
+	private final int width, height;
+	private final int[] flags;
+
+	/**
+	 * Creates a snapshot of collision flags.
+	 *
+	 * @param base  the world tile of the flags at {@code [0][0]}, which also provides the floor
+	 * @param flags the collision flags, indexed {@code [x][y]}
+	 */
+	public CollisionSnapshot(final Tile base, final int[][] flags) {
+		this.base = base;
+		width = flags.length;
+		int height = width;
+		for (final int[] col : flags) {
+			height = Math.min(height, col.length);
+		}
+		this.height = height;
+		this.flags = new int[width * height];
+		for (int x = 0; x < width; x++) {
+			System.arraycopy(flags[x], 0, this.flags, x * height, height);
+		}
+	}
+
+	private CollisionSnapshot(final Tile base, final int width, final int height, final int[] flags) {
+		this.base = base;
+		this.width = width;
+		this.height = height;
+		this.flags = flags;
+	}
+
+	/**
+	 * Reads a snapshot previously written by {@link #write(DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the snapshot
+	 * @throws IOException if the input could not be read
+	 */
+	public static CollisionSnapshot read(final DataInput in) throws IOException {
+		final Tile base = new Tile(in.readInt(), in.readInt(), in.readByte());
+		final int width = in.readUnsignedShort(), height = in.readUnsignedShort();
+		final int[] flags = new int[width * height];
+		for (int i = 0; i < flags.length; ) {
+			final int run = in.readUnsignedShort(), flag = in.readInt();
+			for (int j = 0; j < run && i < flags.length; j++) {
+				flags[i++] = flag;
+			}
+		}
+		return new CollisionSnapshot(base, width, height, flags);
+	}
+
+	/**
+	 * Writes this snapshot, run-length encoding repeated flags.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if the output could not be written
+	 */
+	public void write(final DataOutput out) throws IOException {
+		out.writeInt(base.x());
+		out.writeInt(base.y());
+		out.writeByte(base.floor());
+		out.writeShort(width);
+		out.writeShort(height);
+		for (int i = 0; i < flags.length; ) {
+			final int flag = flags[i];
+			int run = 1;
+			while (i + run < flags.length && flags[i + run] == flag && run < 0xffff) {
+				run++;
+			}
+			out.writeShort(run);
+			out.writeInt(flag);
+			i += run;
+		}
+	}
+
+	public Tile base() {
+		return base;
+	}
+
+	public int width() {
+		return width;
+	}
+
+	public int height() {
+		return height;
+	}
+
+	/**
+	 * Returns the collision flag of a tile relative to the base.
+	 *
+	 * @param x the x relative to the base
+	 * @param y the y relative to the base
+	 * @return the flag; or {@link #BLOCKED} if out of range
+	 */
+	public int flag(final int x, final int y) {
+		return x >= 0 && y >= 0 && x < width && y < height ? flags[x * height + y] : BLOCKED;
+	}
+
+	/**
+	 * Determines if a step from a tile in the given direction is walkable.
+	 *
+	 * @param flags the flag lookup
+	 * @param x     the x to step from
+	 * @param y     the y to step from
+	 * @param dx    the x direction, within [-1, 1]
+	 * @param dy    the y direction, within [-1, 1]
+	 * @return <tt>true</tt> if the step is walkable; otherwise <tt>false</tt>
+	 */
+	static boolean walkable(final Flags flags, final int x, final int y, final int dx, final int dy) {
+		final int here = flags.flag(x, y);
+		if ((flags.flag(x + dx, y + dy) & BLOCKED) != 0) {
+			return false;
+		}
+		final int ns = dy > 0 ? WALL_NORTH : dy < 0 ? WALL_SOUTH : 0, ew = dx > 0 ? WALL_EAST : dx < 0 ? WALL_WEST : 0;
+		if (dx == 0 || dy == 0) {
+			return (here & (ns | ew)) == 0;
+		}
+		final int diagonal = dy > 0 ? (dx > 0 ? WALL_NORTHEAST : WALL_NORTHWEST) : (dx > 0 ? WALL_SOUTHEAST : WALL_SOUTHWEST);
+		return (here & (diagonal | ns | ew)) == 0 &&
+				(flags.flag(x + dx, y) & (BLOCKED | ns)) == 0 &&
+				(flags.flag(x, y + dy) & (BLOCKED | ew)) == 0;
+	}
+
+	interface Flags {
+		int flag(int x, int y);
+	}
+}
@@ -69,6 +69,32 @@ public class Condition {
 		return false;
 	}
 
+	/**
+	 * Blocks until the specified condition is satisfied (returns {@code true}), evaluating it once per game cycle.
+	 * This waits for up to 6 seconds.
+	 *
+	 * @param clock the cycle clock of the context
+	 * @param cond  the condition
+	 * @return {@code true} if the condition was satisfied, otherwise {@code false}
+	 */
+	public static boolean wait(final CycleClock clock, final Callable<Boolean> cond) {
+		return wait(clock, cond, 6000);
+	}
+
+	/**
+	 * Blocks until the specified condition is satisfied (returns {@code true}), evaluating it once per game cycle.
+	 * Unlike polling at a fixed frequency, the caller is woken on the cycle the condition is first satisfied.
+	 * The timeout is randomly adjusted by {@link #VARIANCE}.
+	 *
+	 * @param clock   the cycle clock of the context
+	 * @param cond    the condition
+	 * @param timeout the maximum time to wait in milliseconds
+	 * @return {@code true} if the condition was satisfied, otherwise {@code false}
+	 */
+	public static boolean wait(final CycleClock clock, final Callable<Boolean> cond, final int timeout) {
+		return clock.await(cond, timeout);
+	}
+
 	/**
 	 * Sleeps the current thread.
 	 *
@@ -0,0 +1,154 @@
+package org.powerbot.script;
+
+import java.util.concurrent.Callable;
+
+/**
+ * CycleClock
+ * Watches the game cycle on its own thread while anything is waiting on it, waking waiters as soon as the cycle
+ * advances so that each can evaluate its condition on its own thread rather than polling at a fixed frequency.
+ * The thread lingers for a second after the last waiter leaves so that back to back waits reuse it.
+ */
+public abstract class CycleClock {
+	private static final int IDLE = 10, GRACE = 1000;
+	private final ClientContext<?> ctx;
+	private final Object lock = new Object();
+	private Thread thread = null;
+	private int cycle = -1, waiting = 0;
+	private long idle = 0;
+
+	public CycleClock(final ClientContext<?> ctx) {
+		this.ctx = ctx;
+	}
+
+	/**
+	 * Returns the current game cycle.
+	 *
+	 * @return the cycle; or {@code -1} if unavailable
+	 */
+	public abstract int cycle();
+
+	/**
+	 * Determines whether entities should memoize derived values for the rest of a game cycle, which is enabled by
+	 * setting the {@code memo.cycle} property to {@code true}.
+	 * Entities read this once, when first deriving a value.
+	 *
+	 * @return <tt>true</tt> if memoizing; otherwise <tt>false</tt>
+	 */
+	public boolean memoize() {
+		return ctx.properties.getProperty("memo.cycle", "").equals("true");
+	}
+
+	/**
+	 * Creates a memo of values bound to this clock.
+	 *
+	 * @param size   the number of values
+	 * @param source the source to derive missing values from
+	 * @return the memo
+	 */
+	public CycleMemo memo(final int size, final CycleMemo.Source source) {
+		return new CycleMemo(this, size, source);
+	}
+
+	/**
+	 * Blocks until the game cycle advances past a previously observed cycle.
+	 *
+	 * @param seen    the cycle last observed; or {@code -1} to return as soon as any cycle is observed
+	 * @param timeout the maximum time to wait in milliseconds
+	 * @return the current cycle, which is still {@code seen} if the wait timed out
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public int next(final int seen, final long timeout) throws InterruptedException {
+		final long end = System.currentTimeMillis() + timeout;
+		synchronized (lock) {
+			hold(1);
+			try {
+				long left;
+				while (cycle == seen && (left = end - System.currentTimeMillis()) > 0) {
+					lock.wait(left);
+				}
+				return cycle;
+			} finally {
+				hold(-1);
+			}
+		}
+	}
+
+	/**
+	 * Blocks until a condition is satisfied, evaluating it on the calling thread once per game cycle.
+	 * The timeout is adjusted by {@link Condition#VARIANCE} to provide a basic antipattern.
+	 *
+	 * @param cond    the condition
+	 * @param timeout the maximum time to wait in milliseconds
+	 * @return {@code true} if the condition was satisfied, otherwise {@code false}
+	 */
+	public boolean await(final Callable<Boolean> cond, final long timeout) {
+		final long s = System.currentTimeMillis();
+		final long end = s + (long) (timeout * Random.nextDouble(Condition.VARIANCE[0], Condition.VARIANCE[1]));
+		synchronized (lock) {
+			hold(1);
+		}
+		try {
+			int seen = -1;
+			long left;
+			while ((left = end - System.currentTimeMillis()) > 0) {
+				final int c = next(seen, left);
+				if (c == seen) {
+					break;
+				}
+				seen = c;
+				if (cond.call()) {
+					return true;
+				}
+			}
+			return cond.call();
+		} catch (final Exception ignored) {
+			return false;
+		} finally {
+			synchronized (lock) {
+				hold(-1);
+			}
+			if (ctx.metrics.profiling()) {
+				ctx.metrics.record("wait.clock.ms", System.currentTimeMillis() - s);
+			}
+		}
+	}
+
+	private void hold(final int n) {
+		waiting += n;
+		if (waiting == 0) {
+			idle = System.currentTimeMillis();
+		} else if (thread == null) {
+			start();
+		}
+	}
+
+	private void start() {
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					for (; ; ) {
+						final int c = cycle();
+						synchronized (lock) {
+							if (waiting == 0 && System.currentTimeMillis() - idle > GRACE) {
+								thread = null;
+								return;
+							}
+							if (c != cycle) {
+								cycle = c;
+								lock.notifyAll();
+							}
+						}
+						Thread.sleep(IDLE);
+					}
+				} catch (final InterruptedException ignored) {
+					synchronized (lock) {
+						thread = null;
+					}
+				}
+			}
+		}, getClass().getSimpleName());
+		thread.setDaemon(true);
+		thread.start();
+	}
+}
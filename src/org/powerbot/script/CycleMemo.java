@@ -0,0 +1,68 @@
+package org.powerbot.script;
+
+import java.util.Arrays;
+
+/**
+ * CycleMemo
+ * A small set of values derived from the game state which stay valid until the game cycle advances.
+ */
+public final class CycleMemo {
+	/**
+	 * A memo which never holds a value, marking memoizing as disabled.
+	 */
+	public static final CycleMemo NONE = new CycleMemo(null, 0, null);
+	private final CycleClock clock;
+	private final Source source;
+	private final Object[] values;
+	private int cycle = -1;
+
+	CycleMemo(final CycleClock clock, final int size, final Source source) {
+		this.clock = clock;
+		this.source = source;
+		values = new Object[size];
+	}
+
+	/**
+	 * Returns a value derived during the current game cycle, deriving it from the source if it has not been yet.
+	 * A value derived while the cycle advances is returned but not kept.
+	 *
+	 * @param slot the index of the value
+	 * @return the value; or {@code null} if this is {@link #NONE}
+	 */
+	public Object get(final int slot) {
+		if (clock == null) {
+			return null;
+		}
+		final int c = clock.cycle();
+		synchronized (this) {
+			if (c != cycle) {
+				cycle = c;
+				Arrays.fill(values, null);
+			}
+			if (c != -1 && values[slot] != null) {
+				return values[slot];
+			}
+		}
+		final Object v = source.derive(slot);
+		synchronized (this) {
+			if (c != -1 && c == cycle) {
+				values[slot] = v;
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * Source
+	 * Derives the values of a memo from the game state.
+	 */
+	public interface Source {
+		/**
+		 * Derives a value.
+		 *
+		 * @param slot the index of the value
+		 * @return the value, which must not be {@code null}
+		 */
+		Object derive(int slot);
+	}
+}
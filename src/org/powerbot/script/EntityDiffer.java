@@ -0,0 +1,98 @@
+package org.powerbot.script;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EntityDiffer
+ * Compares successive snapshots of entities and describes what changed between them.
+ * Entities are matched by {@link Object#equals(Object)}, which for the game entities is the identity of the client object.
+ *
+ * @param <E> the entity type
+ */
+public class EntityDiffer<E extends Locatable> {
+	private Map<E, State> states = null;
+
+	/**
+	 * Determines the animation of an entity, if it has one.
+	 *
+	 * @param e the entity
+	 * @return the animation; or {@code -1} if not tracked
+	 */
+	protected int animation(final E e) {
+		return -1;
+	}
+
+	/**
+	 * Determines the health of an entity, if it has one.
+	 *
+	 * @param e the entity
+	 * @return the health; or {@code -1} if not tracked
+	 */
+	protected int health(final E e) {
+		return -1;
+	}
+
+	/**
+	 * Compares the entities against the previous snapshot and replaces it.
+	 * The first snapshot only records state and produces no events.
+	 *
+	 * @param entities the current entities
+	 * @return the changes since the previous snapshot
+	 */
+	public synchronized List<EntityEvent> diff(final Collection<E> entities) {
+		final List<EntityEvent> events = new ArrayList<EntityEvent>();
+		final Map<E, State> next = new HashMap<E, State>(entities.size() * 2);
+		final Map<E, State> states = this.states;
+		for (final E e : entities) {
+			final State s = new State(e.tile(), animation(e), health(e));
+			if (next.put(e, s) != null || states == null) {
+				continue;
+			}
+			final State p = states.remove(e);
+			if (p == null) {
+				events.add(new EntityEvent(EntityEvent.Type.SPAWNED, e, Tile.NIL, s.tile, -1, -1));
+				continue;
+			}
+			if (!p.tile.equals(s.tile)) {
+				events.add(new EntityEvent(EntityEvent.Type.MOVED, e, p.tile, s.tile, -1, -1));
+			}
+			if (p.animation != s.animation) {
+				events.add(new EntityEvent(EntityEvent.Type.ANIMATION_CHANGED, e, s.tile, s.tile, p.animation, s.animation));
+			}
+			if (p.health != s.health) {
+				events.add(new EntityEvent(EntityEvent.Type.HEALTH_CHANGED, e, s.tile, s.tile, p.health, s.health));
+			}
+		}
+		if (states != null) {
+			for (final Map.Entry<E, State> entry : states.entrySet()) {
+				if (!next.containsKey(entry.getKey())) {
+					events.add(new EntityEvent(EntityEvent.Type.DESPAWNED, entry.getKey(), entry.getValue().tile, Tile.NIL, -1, -1));
+				}
+			}
+		}
+		this.states = next;
+		return events;
+	}
+
+	/**
+	 * Forgets the previous snapshot, so that the next comparison produces no events.
+	 */
+	public synchronized void reset() {
+		states = null;
+	}
+
+	private static final class State {
+		private final Tile tile;
+		private final int animation, health;
+
+		private State(final Tile tile, final int animation, final int health) {
+			this.tile = tile;
+			this.animation = animation;
+			this.health = health;
+		}
+	}
+}
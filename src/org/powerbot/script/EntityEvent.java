@@ -0,0 +1,87 @@
+package org.powerbot.script;
+
+import java.util.EventListener;
+
+import org.powerbot.bot.AbstractEvent;
+
+/**
+ * EntityEvent
+ * An event that represents an entity spawning, despawning or changing between game ticks.
+ */
+public class EntityEvent extends AbstractEvent {
+	public static final int ENTITY_EVENT = 0x100;
+	private static final long serialVersionUID = -3160424867235049276L;
+	private final Type type;
+	private final Locatable entity;
+	private final Tile from, to;
+	private final int previous, current;
+
+	public EntityEvent(final Type type, final Locatable entity, final Tile from, final Tile to, final int previous, final int current) {
+		super(ENTITY_EVENT);
+		this.type = type;
+		this.entity = entity;
+		this.from = from;
+		this.to = to;
+		this.previous = previous;
+		this.current = current;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void call(final EventListener eventListener) {
+		((EntityListener) eventListener).entityChanged(this);
+	}
+
+	/**
+	 * @return the kind of change
+	 */
+	public Type type() {
+		return type;
+	}
+
+	/**
+	 * @return the entity which changed, such as an npc, player, object, ground item or projectile
+	 */
+	public Locatable entity() {
+		return entity;
+	}
+
+	/**
+	 * @return the tile of the entity before the change; or {@link Tile#NIL} if it spawned
+	 */
+	public Tile from() {
+		return from;
+	}
+
+	/**
+	 * @return the tile of the entity after the change; or {@link Tile#NIL} if it despawned
+	 */
+	public Tile to() {
+		return to;
+	}
+
+	/**
+	 * @return the animation or health before the change; or {@code -1} if not applicable
+	 */
+	public int previous() {
+		return previous;
+	}
+
+	/**
+	 * @return the animation or health after the change; or {@code -1} if not applicable
+	 */
+	public int current() {
+		return current;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[%s %s -> %s, %d -> %d]", type, entity, from, to, previous, current);
+	}
+
+	public enum Type {
+		SPAWNED, DESPAWNED, MOVED, ANIMATION_CHANGED, HEALTH_CHANGED
+	}
+}
@@ -0,0 +1,16 @@
+package org.powerbot.script;
+
+import java.util.EventListener;
+
+/**
+ * EntityListener
+ * A listener for entities spawning, despawning or changing between game ticks.
+ */
+public interface EntityListener extends EventListener {
+	/**
+	 * Response fired upon a tracked entity changing.
+	 *
+	 * @param event the event representing the change
+	 */
+	void entityChanged(EntityEvent event);
+}
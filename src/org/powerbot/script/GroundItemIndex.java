@@ -0,0 +1,136 @@
+package org.powerbot.script;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GroundItemIndex
+ * A snapshot of the ground items grouped by tile and by id, with the value of every pile.
+ *
+ * @param <G> the ground item type
+ */
+public final class GroundItemIndex<G extends Locatable & Identifiable & Stackable> {
+	private final Map<Tile, List<G>> tiles = new LinkedHashMap<Tile, List<G>>();
+	private final Map<Integer, List<Tile>> ids = new LinkedHashMap<Integer, List<Tile>>();
+	private final Map<Tile, Long> piles = new LinkedHashMap<Tile, Long>();
+
+	/**
+	 * Indexes the ground items, reading the tile, id and stack size of each once.
+	 *
+	 * @param items  the items to index
+	 * @param values the value of one item of each id
+	 */
+	public GroundItemIndex(final Iterable<G> items, final Values values) {
+		for (final G item : items) {
+			final Tile tile = item.tile();
+			final int id = item.id();
+			List<G> at = tiles.get(tile);
+			if (at == null) {
+				tiles.put(tile, at = new ArrayList<G>());
+			}
+			at.add(item);
+			List<Tile> holding = ids.get(id);
+			if (holding == null) {
+				ids.put(id, holding = new ArrayList<Tile>());
+			}
+			if (!holding.contains(tile)) {
+				holding.add(tile);
+			}
+			final Long v = piles.get(tile);
+			piles.put(tile, (v != null ? v : 0L) + (long) values.value(id) * item.stackSize());
+		}
+	}
+
+	public Set<Tile> tiles() {
+		return Collections.unmodifiableSet(tiles.keySet());
+	}
+
+	/**
+	 * Returns the items on a tile.
+	 *
+	 * @param tile the tile
+	 * @return the items, which is empty if there are none
+	 */
+	public List<G> at(final Tile tile) {
+		final List<G> at = tiles.get(tile);
+		return at != null ? Collections.unmodifiableList(at) : Collections.<G>emptyList();
+	}
+
+	/**
+	 * Returns every tile holding at least one of the provided ids.
+	 *
+	 * @param ids the item ids
+	 * @return the tiles
+	 */
+	public List<Tile> tiles(final int... ids) {
+		final List<Tile> r = new ArrayList<Tile>();
+		for (final int id : ids) {
+			final List<Tile> holding = this.ids.get(id);
+			if (holding == null) {
+				continue;
+			}
+			for (final Tile t : holding) {
+				if (!r.contains(t)) {
+					r.add(t);
+				}
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Determines the total value of the items on a tile.
+	 *
+	 * @param tile the tile
+	 * @return the sum of the value of every stack on the tile
+	 */
+	public long value(final Tile tile) {
+		final Long v = piles.get(tile);
+		return v != null ? v : 0L;
+	}
+
+	/**
+	 * Ranks the piles within range of a location by value.
+	 *
+	 * @param count     the maximum number of piles to return
+	 * @param locatable the location to measure from
+	 * @param radius    the maximum distance, in tiles
+	 * @return the tiles of the most valuable piles, most valuable first
+	 */
+	public List<Tile> mostValuable(final int count, final Locatable locatable, final double radius) {
+		final Tile from = locatable.tile();
+		final List<Tile> r = new ArrayList<Tile>();
+		for (final Tile t : tiles.keySet()) {
+			if (t.distanceTo(from) <= radius) {
+				r.add(t);
+			}
+		}
+		Collections.sort(r, new Comparator<Tile>() {
+			@Override
+			public int compare(final Tile o1, final Tile o2) {
+				final long v1 = value(o1), v2 = value(o2);
+				return v1 > v2 ? -1 : v1 < v2 ? 1 : 0;
+			}
+		});
+		return r.size() > count ? new ArrayList<Tile>(r.subList(0, Math.max(0, count))) : r;
+	}
+
+	/**
+	 * Values
+	 * Looks up the value of one item of an id, as listed in the item definitions of a game.
+	 */
+	public interface Values {
+		/**
+		 * Determines the value of one item.
+		 *
+		 * @param id the item id
+		 * @return the value; or {@code 0} if unknown
+		 */
+		int value(int id);
+	}
+}
@@ -0,0 +1,155 @@
+package org.powerbot.script;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.powerbot.bot.AbstractBot;
+import org.powerbot.bot.EventDispatcher;
+
+/**
+ * MessagePump
+ * Reads new chat messages once per game cycle on its own thread and hands them through a bounded queue to a second
+ * thread which dispatches them, so that delivery neither depends on nor holds up painting.
+ */
+public abstract class MessagePump {
+	/**
+	 * The number of messages which can wait to be dispatched.
+	 */
+	public static final int CAPACITY = 512;
+	/**
+	 * The time in milliseconds to wait for room in the queue before dropping a message.
+	 */
+	public static final int STALL = 600;
+	private static final int IDLE = 10;
+	private final ClientContext<?> ctx;
+	private final CycleClock clock;
+	private final BlockingQueue<MessageEvent> queue = new ArrayBlockingQueue<MessageEvent>(CAPACITY);
+	private final AtomicLong dropped = new AtomicLong(0), stalled = new AtomicLong(0);
+	private Thread pump = null, drain = null;
+
+	public MessagePump(final ClientContext<?> ctx, final CycleClock clock) {
+		this.ctx = ctx;
+		this.clock = clock;
+	}
+
+	/**
+	 * Reads the messages added since the previous call.
+	 * Implementations should only advance their position once every new message has been read, as the messages of a
+	 * read which throws are discarded and read again on the next cycle.
+	 *
+	 * @param messages the list to add the new messages to, oldest first
+	 */
+	protected abstract void read(final List<MessageEvent> messages);
+
+	public synchronized void start() {
+		if (pump != null) {
+			return;
+		}
+		final EventDispatcher e = ((AbstractBot) ctx.bot()).dispatcher;
+		pump = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				final List<MessageEvent> messages = new ArrayList<MessageEvent>();
+				int cycle = -1;
+				try {
+					while (!Thread.interrupted()) {
+						final int c = clock.cycle();
+						if (c == -1 || c == cycle) {
+							Thread.sleep(IDLE);
+							continue;
+						}
+						cycle = c;
+						try {
+							read(messages);
+						} catch (final RuntimeException ignored) {
+							messages.clear();
+						}
+						for (final MessageEvent m : messages) {
+							offer(m);
+						}
+						messages.clear();
+					}
+				} catch (final InterruptedException ignored) {
+				}
+			}
+		}, getClass().getSimpleName());
+		drain = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					while (!Thread.interrupted()) {
+						final MessageEvent m = queue.take();
+						try {
+							e.dispatch(m);
+						} catch (final RuntimeException ex) {
+							final Thread.UncaughtExceptionHandler x = Thread.getDefaultUncaughtExceptionHandler();
+							if (x != null) {
+								x.uncaughtException(Thread.currentThread(), ex);
+							} else {
+								ex.printStackTrace();
+							}
+						}
+					}
+				} catch (final InterruptedException ignored) {
+				}
+			}
+		}, getClass().getSimpleName() + "-dispatch");
+		pump.setDaemon(true);
+		drain.setDaemon(true);
+		pump.start();
+		drain.start();
+	}
+
+	public synchronized void stop() {
+		if (pump == null) {
+			return;
+		}
+		pump.interrupt();
+		drain.interrupt();
+		pump = drain = null;
+		queue.clear();
+	}
+
+	private void offer(final MessageEvent m) throws InterruptedException {
+		if (queue.offer(m)) {
+			return;
+		}
+		stalled.incrementAndGet();
+		ctx.metrics.record("chat.stalled", 1);
+		if (!queue.offer(m, STALL, TimeUnit.MILLISECONDS)) {
+			dropped.incrementAndGet();
+			ctx.metrics.record("chat.dropped", 1);
+		}
+	}
+
+	/**
+	 * Returns the number of messages which were dropped as the queue stayed full for {@link #STALL} milliseconds.
+	 *
+	 * @return the number of dropped messages
+	 */
+	public long dropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of times reading was held up by a full queue.
+	 *
+	 * @return the number of stalls
+	 */
+	public long stalled() {
+		return stalled.get();
+	}
+
+	/**
+	 * Returns the number of messages waiting to be dispatched.
+	 *
+	 * @return the queue length
+	 */
+	public int pending() {
+		return queue.size();
+	}
+}
@@ -0,0 +1,205 @@
+package org.powerbot.script;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * MetricsRegistry
+ * A live set of named counters and histograms, such as poll durations and query sizes, shared by a bot.
+ */
+public final class MetricsRegistry {
+	/**
+	 * The size in bytes at which {@link #write(File)} rolls the file over.
+	 */
+	public static final long ROLL_SIZE = 1 << 20;
+	private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<String, Metric>();
+	private final Properties properties;
+
+	public MetricsRegistry(final Properties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Determines whether fine grained metrics, such as those recorded on every wait or scan, should be recorded,
+	 * which is enabled by setting the {@code metrics.profile} property to {@code true}.
+	 *
+	 * @return <tt>true</tt> if profiling; otherwise <tt>false</tt>
+	 */
+	public boolean profiling() {
+		return properties.getProperty("metrics.profile", "").equals("true");
+	}
+
+	/**
+	 * Returns a metric, creating it if it does not exist.
+	 *
+	 * @param name the name of the metric
+	 * @return the metric
+	 */
+	public Metric metric(final String name) {
+		Metric m = metrics.get(name);
+		if (m == null) {
+			final Metric n = new Metric(name);
+			m = metrics.putIfAbsent(name, n);
+			if (m == null) {
+				m = n;
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Records a value against a metric.
+	 *
+	 * @param name  the name of the metric
+	 * @param value the value
+	 */
+	public void record(final String name, final long value) {
+		metric(name).record(value);
+	}
+
+	/**
+	 * Determines the ratio of hits to lookups of a cache whose numbers of hits and misses are recorded as
+	 * {@code name.hit} and {@code name.miss}.
+	 *
+	 * @param name the name of the cache
+	 * @return the hit rate, from {@code 0} to {@code 1}
+	 */
+	public double hitRate(final String name) {
+		final Metric h = metrics.get(name + ".hit"), m = metrics.get(name + ".miss");
+		final long hits = h != null ? h.total() : 0, misses = m != null ? m.total() : 0;
+		return hits + misses > 0 ? (double) hits / (hits + misses) : 0d;
+	}
+
+	/**
+	 * Returns every metric.
+	 *
+	 * @return the metrics, ordered by name
+	 */
+	public List<Metric> metrics() {
+		final List<Metric> r = new ArrayList<Metric>(metrics.values());
+		Collections.sort(r, new Comparator<Metric>() {
+			@Override
+			public int compare(final Metric o1, final Metric o2) {
+				return o1.name.compareTo(o2.name);
+			}
+		});
+		return r;
+	}
+
+	public void reset() {
+		metrics.clear();
+	}
+
+	/**
+	 * Appends a row for every metric to a CSV file, first moving the file aside to {@code name.1} if it has grown
+	 * past {@link #ROLL_SIZE}.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file could not be written
+	 */
+	public void write(final File file) throws IOException {
+		if (file.length() > ROLL_SIZE) {
+			final File old = new File(file.getParentFile(), file.getName() + ".1");
+			if (old.exists()) {
+				old.delete();
+			}
+			file.renameTo(old);
+		}
+		final boolean header = !file.exists();
+		final long now = System.currentTimeMillis();
+		final Writer w = new FileWriter(file, true);
+		try {
+			if (header) {
+				w.write("time,name,count,total,mean,max,p50,p95\n");
+			}
+			for (final Metric m : metrics()) {
+				w.write(String.format(Locale.US, "%d,%s,%d,%d,%.2f,%d,%d,%d\n",
+						now, m.name, m.count(), m.total(), m.mean(), m.max(), m.percentile(.5d), m.percentile(.95d)));
+			}
+		} finally {
+			w.close();
+		}
+	}
+
+	/**
+	 * Metric
+	 * A count, sum and maximum of recorded values along with a histogram of power of two buckets.
+	 */
+	public static final class Metric {
+		private final String name;
+		private final AtomicLong count = new AtomicLong(0), total = new AtomicLong(0), max = new AtomicLong(0);
+		private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+		private Metric(final String name) {
+			this.name = name;
+		}
+
+		public void record(final long value) {
+			final long v = Math.max(0L, value);
+			count.incrementAndGet();
+			total.addAndGet(v);
+			buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(v));
+			long m;
+			while (v > (m = max.get())) {
+				if (max.compareAndSet(m, v)) {
+					break;
+				}
+			}
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public long count() {
+			return count.get();
+		}
+
+		public long total() {
+			return total.get();
+		}
+
+		public long max() {
+			return max.get();
+		}
+
+		public double mean() {
+			final long c = count.get();
+			return c > 0 ? (double) total.get() / c : 0d;
+		}
+
+		/**
+		 * Estimates a percentile of the recorded values.
+		 *
+		 * @param p the percentile, from {@code 0} to {@code 1}
+		 * @return the upper bound of the histogram bucket holding the percentile
+		 */
+		public long percentile(final double p) {
+			final long c = count.get();
+			if (c == 0) {
+				return 0;
+			}
+			final long target = (long) Math.ceil(c * Math.min(1d, Math.max(0d, p)));
+			long seen = 0;
+			for (int i = 0; i < buckets.length(); i++) {
+				seen += buckets.get(i);
+				if (seen >= target) {
+					return i == 0 ? 0 : Math.min(max.get(), i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+				}
+			}
+			return max.get();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package org.powerbot.script;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.powerbot.Configuration;
+
+/**
+ * PollScheduler
+ * A single timer shared by every {@link PollingScript} of a bot, which requeues each script on the controller once
+ * its poll interval has elapsed instead of each script sleeping on its own thread.
+ * While polling, it also appends the bot's metrics to a {@code metrics-<time>-<bot>.csv} file of its own once a minute
+ * if the {@code metrics.csv} property is set to {@code true}, writing on a separate thread so polls are never held up.
+ */
+final class PollScheduler implements Runnable {
+	/**
+	 * The length of a game tick in milliseconds, used as the step of the grid onto which coalesced polls are aligned.
+	 * The grid starts when the scheduler is created; the client does not expose the phase of server ticks, so it is
+	 * a plain timer rather than a game tick boundary.
+	 */
+	static final int TICK = 600;
+	private static final long WRITE_INTERVAL = 60000L;
+	private static final AtomicInteger BOTS = new AtomicInteger(0);
+	private final Script.Controller controller;
+	private final MetricsRegistry metrics;
+	private final Properties properties;
+	private final PriorityQueue<Entry> queue = new PriorityQueue<Entry>(11, new Comparator<Entry>() {
+		@Override
+		public int compare(final Entry o1, final Entry o2) {
+			return o1.when < o2.when ? -1 : o1.when > o2.when ? 1 : 0;
+		}
+	});
+	private final long epoch = System.currentTimeMillis();
+	private final File csv = new File(new File(Configuration.TEMP, Configuration.NAME), "metrics-" + epoch + "-" + BOTS.incrementAndGet() + ".csv");
+	private final AtomicBoolean writing = new AtomicBoolean(false);
+	private Thread thread = null;
+	private long written = System.currentTimeMillis();
+
+	PollScheduler(final Script.Controller controller, final MetricsRegistry metrics, final Properties properties) {
+		this.controller = controller;
+		this.metrics = metrics;
+		this.properties = properties;
+	}
+
+	/**
+	 * Schedules the next poll of a script.
+	 *
+	 * @param script the script
+	 * @param task   the task which polls the script
+	 */
+	void schedule(final PollingScript<?> script, final Runnable task) {
+		final int jitter = Math.max(0, script.jitter.get());
+		long when = System.currentTimeMillis() + Math.max(0, script.interval.get()) + (jitter > 0 ? Random.nextInt(0, jitter + 1) : 0);
+		if (script.tick.get()) {
+			final long t = when - epoch;
+			when = epoch + (t + TICK - 1) / TICK * TICK;
+		}
+		synchronized (queue) {
+			queue.add(new Entry(when, script, task));
+			if (thread == null || !thread.isAlive()) {
+				thread = new Thread(this, getClass().getSimpleName());
+				thread.setDaemon(true);
+				thread.start();
+			}
+			queue.notify();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void run() {
+		final List<Entry> due = new ArrayList<Entry>();
+		while (!controller.isStopping()) {
+			synchronized (queue) {
+				try {
+					while (queue.isEmpty() || queue.peek().when > System.currentTimeMillis()) {
+						queue.wait(queue.isEmpty() ? TICK : Math.max(1L, queue.peek().when - System.currentTimeMillis()));
+						if (controller.isStopping()) {
+							queue.clear();
+							thread = null;
+							return;
+						}
+					}
+				} catch (final InterruptedException ignored) {
+					queue.clear();
+					thread = null;
+					return;
+				}
+				final long now = System.currentTimeMillis();
+				while (!queue.isEmpty() && queue.peek().when <= now) {
+					due.add(queue.poll());
+				}
+			}
+			Collections.sort(due, new Comparator<Entry>() {
+				@Override
+				public int compare(final Entry o1, final Entry o2) {
+					return o2.script.priority.get() - o1.script.priority.get();
+				}
+			});
+			for (final Entry e : due) {
+				controller.offer(e.task);
+			}
+			due.clear();
+			write();
+		}
+		synchronized (queue) {
+			queue.clear();
+			thread = null;
+		}
+	}
+
+	private void write() {
+		final long now = System.currentTimeMillis();
+		if (now - written < WRITE_INTERVAL || !properties.getProperty("metrics.csv", "").equals("true") ||
+				!writing.compareAndSet(false, true)) {
+			return;
+		}
+		written = now;
+		final Thread t = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					final File dir = csv.getParentFile();
+					if (dir.isDirectory() || dir.mkdirs()) {
+						metrics.write(csv);
+					}
+				} catch (final IOException ignored) {
+				} finally {
+					writing.set(false);
+				}
+			}
+		}, getClass().getSimpleName() + "-metrics");
+		t.setDaemon(true);
+		t.start();
+	}
+
+	private static final class Entry {
+		private final long when;
+		private final PollingScript<?> script;
+		private final Runnable task;
+
+		private Entry(final long when, final PollingScript<?> script, final Runnable task) {
+			this.when = when;
+			this.script = script;
+			this.task = task;
+		}
+	}
+}
@@ -3,6 +3,7 @@ package org.powerbot.script;
 import java.util.Comparator;
 import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -25,12 +26,30 @@ public abstract class PollingScript<C extends ClientContext> extends AbstractScr
 	 * The priority of this {@link org.powerbot.script.PollingScript} with respect to others.
 	 */
 	public final AtomicInteger priority;
+	/**
+	 * The delay in milliseconds between the end of one {@link #poll()} and the start of the next.
+	 */
+	public final AtomicInteger interval;
+	/**
+	 * The maximum random delay in milliseconds added to each {@link #interval}.
+	 */
+	public final AtomicInteger jitter;
+	/**
+	 * Whether to delay each {@link #poll()} onto the next step of a fixed 600 millisecond grid, so that scripts polling
+	 * at similar intervals are woken together. The grid is counted from when the bot started, not from the game's
+	 * own ticks, so it is not in phase with the server.
+	 */
+	public final AtomicBoolean tick;
+	private final String metric = "poll." + getClass().getName().substring(getClass().getName().lastIndexOf('.') + 1) + ".us";
 
 	/**
 	 * Creates an instance of a {@link PollingScript}.
 	 */
 	public PollingScript() {
 		priority = new AtomicInteger(0);
+		interval = new AtomicInteger(60);
+		jitter = new AtomicInteger(0);
+		tick = new AtomicBoolean(false);
 		getExecQueue(State.START).add(new Runnable() {
 			@Override
 			public void run() {
@@ -70,6 +89,7 @@ public abstract class PollingScript<C extends ClientContext> extends AbstractScr
 			@Override
 			public void run() {
 				if (threshold.isEmpty() || threshold.first().priority.get() <= priority.get()) {
+					final long s = System.nanoTime();
 					try {
 						poll();
 					} catch (final Throwable e) {
@@ -81,16 +101,11 @@ public abstract class PollingScript<C extends ClientContext> extends AbstractScr
 							e.printStackTrace();
 						}
 					}
-				}
-
-				try {
-					Thread.sleep(60);
-				} catch (final InterruptedException ignored) {
-					Thread.yield();
+					ctx.metrics.record(metric, (System.nanoTime() - s) / 1000L);
 				}
 
 				if (!Thread.interrupted() && !ctx.controller.isStopping()) {
-					ctx.controller.offer(this);
+					ctx.scheduler.schedule(PollingScript.this, this);
 				}
 			}
 		});
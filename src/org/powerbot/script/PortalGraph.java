@@ -0,0 +1,454 @@
+package org.powerbot.script;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PortalGraph
+ * A hierarchical path planner for distances beyond the loaded scene.
+ * The world is divided into 64x64 clusters; walkable openings between neighbouring clusters become portals,
+ * and portals within a cluster are joined by their walking distance. Routes are planned over portals
+ * and are refined into local paths as the regions they cross are loaded.
+ * Graphs are built from {@link CollisionSnapshot}s and do not require a game client.
+ */
+public final class PortalGraph {
+	private static final int SIZE = 64;
+	private static final int MAGIC = 0x70677231;
+	private static final int PADDING = 0xffffff;
+	private final Map<Integer, Cluster> clusters;
+	private final List<Transport> transports;
+	private boolean dirty;
+	private int cheapest = Integer.MAX_VALUE;
+
+	public PortalGraph() {
+		clusters = new HashMap<Integer, Cluster>();
+		transports = new ArrayList<Transport>();
+	}
+
+	/**
+	 * Reads a graph previously written by {@link #write(OutputStream)}.
+	 *
+	 * @param in the stream to read from
+	 * @return the graph
+	 * @throws IOException if the stream could not be read or is not a graph
+	 */
+	public static PortalGraph read(final InputStream in) throws IOException {
+		final DataInputStream d = new DataInputStream(new GZIPInputStream(in));
+		if (d.readInt() != MAGIC) {
+			throw new IOException("not a portal graph");
+		}
+		final PortalGraph g = new PortalGraph();
+		for (int i = d.readInt(); i > 0; i--) {
+			final Cluster c = g.cluster(d.readUnsignedShort(), d.readUnsignedShort(), d.readByte(), true);
+			for (int j = 0; j < c.flags.length; ) {
+				final int run = d.readUnsignedShort(), flag = d.readInt();
+				for (int k = 0; k < run && j < c.flags.length; k++) {
+					c.flags[j++] = flag;
+				}
+			}
+		}
+		for (int i = d.readInt(); i > 0; i--) {
+			g.addTransport(readTile(d), readTile(d), d.readInt());
+		}
+		final Node[] nodes = new Node[d.readInt()];
+		for (int i = 0; i < nodes.length; i++) {
+			final Tile t = readTile(d);
+			nodes[i] = g.cluster(t.x() / SIZE, t.y() / SIZE, t.floor(), true).node(t);
+		}
+		for (final Node n : nodes) {
+			for (int i = d.readUnsignedShort(); i > 0; i--) {
+				n.edges.add(new Edge(nodes[d.readInt()], d.readInt()));
+			}
+		}
+		g.dirty = false;
+		return g;
+	}
+
+	private static Tile readTile(final DataInputStream d) throws IOException {
+		return new Tile(d.readUnsignedShort(), d.readUnsignedShort(), d.readByte());
+	}
+
+	private static void writeTile(final DataOutputStream d, final Tile t) throws IOException {
+		d.writeShort(t.x());
+		d.writeShort(t.y());
+		d.writeByte(t.floor());
+	}
+
+	/**
+	 * Writes the collision data, transports, portals and edges of this graph in a compressed form.
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the stream could not be written
+	 */
+	public synchronized void write(final OutputStream out) throws IOException {
+		build();
+		final GZIPOutputStream z = new GZIPOutputStream(out);
+		final DataOutputStream d = new DataOutputStream(z);
+		d.writeInt(MAGIC);
+		d.writeInt(clusters.size());
+		for (final Cluster c : clusters.values()) {
+			d.writeShort(c.cx);
+			d.writeShort(c.cy);
+			d.writeByte(c.floor);
+			for (int i = 0; i < c.flags.length; ) {
+				final int flag = c.flags[i];
+				int run = 1;
+				while (i + run < c.flags.length && c.flags[i + run] == flag) {
+					run++;
+				}
+				d.writeShort(run);
+				d.writeInt(flag);
+				i += run;
+			}
+		}
+		d.writeInt(transports.size());
+		for (final Transport t : transports) {
+			writeTile(d, t.from);
+			writeTile(d, t.to);
+			d.writeInt(t.cost);
+		}
+		final List<Node> nodes = new ArrayList<Node>();
+		final Map<Node, Integer> index = new IdentityHashMap<Node, Integer>();
+		for (final Cluster c : clusters.values()) {
+			for (final Node n : c.nodes.values()) {
+				index.put(n, nodes.size());
+				nodes.add(n);
+			}
+		}
+		d.writeInt(nodes.size());
+		for (final Node n : nodes) {
+			writeTile(d, n.tile);
+		}
+		for (final Node n : nodes) {
+			d.writeShort(n.edges.size());
+			for (final Edge e : n.edges) {
+				d.writeInt(index.get(e.to));
+				d.writeInt(e.cost);
+			}
+		}
+		d.flush();
+		z.finish();
+	}
+
+	/**
+	 * Merges the collision flags of a snapshot into this graph.
+	 * Tiles that are outside of the snapshot or that the client pads as out of range are left unchanged.
+	 *
+	 * @param snapshot the snapshot to merge
+	 */
+	public synchronized void add(final CollisionSnapshot snapshot) {
+		final Tile base = snapshot.base();
+		for (int x = 0; x < snapshot.width(); x++) {
+			for (int y = 0; y < snapshot.height(); y++) {
+				final int flag = snapshot.flag(x, y);
+				if ((flag & PADDING) == PADDING) {
+					continue;
+				}
+				final int wx = base.x() + x, wy = base.y() + y;
+				final Cluster c = cluster(wx / SIZE, wy / SIZE, base.floor(), true);
+				c.flags[(wx % SIZE) * SIZE + wy % SIZE] = flag;
+			}
+		}
+		dirty = true;
+	}
+
+	/**
+	 * Adds a link which cannot be derived from collision flags, such as stairs, ladders or doors.
+	 *
+	 * @param from the tile the link is used from
+	 * @param to   the tile the link leads to
+	 * @param cost the cost of using the link, in steps
+	 */
+	public synchronized void addTransport(final Tile from, final Tile to, final int cost) {
+		transports.add(new Transport(from, to, cost));
+		cheapest = Math.min(cheapest, cost);
+		dirty = true;
+	}
+
+	/**
+	 * Plans a route between two tiles.
+	 * Consecutive waypoints are either within the same cluster, on either side of a cluster border,
+	 * or the two ends of a transport.
+	 *
+	 * @param start the start tile
+	 * @param end   the end tile
+	 * @return the waypoints from the start to the end inclusive; or an empty array if there is no route
+	 */
+	public synchronized Tile[] findPath(final Tile start, final Tile end) {
+		build();
+		final Cluster cs = cluster(start), ce = cluster(end);
+		if (cs == null || ce == null) {
+			return new Tile[0];
+		}
+		final int[] fromStart = cs.flood(start, false), toEnd = ce.flood(end, true);
+		if (cs == ce && fromStart[cs.index(end)] != -1) {
+			return new Tile[]{start, end};
+		}
+
+		final Node goal = new Node(end, ce);
+		final Map<Node, Integer> g = new IdentityHashMap<Node, Integer>();
+		final Map<Node, Node> parent = new IdentityHashMap<Node, Node>();
+		final Map<Node, Integer> f = new IdentityHashMap<Node, Integer>();
+		final Queue<Node> open = new PriorityQueue<Node>(16, new Comparator<Node>() {
+			@Override
+			public int compare(final Node o1, final Node o2) {
+				return f.get(o1) - f.get(o2);
+			}
+		});
+		for (final Node n : cs.nodes.values()) {
+			final int d = fromStart[cs.index(n.tile)];
+			if (d != -1) {
+				g.put(n, d);
+				f.put(n, d + heuristic(n.tile, end));
+				open.add(n);
+			}
+		}
+		while (!open.isEmpty()) {
+			final Node n = open.poll();
+			if (n == goal) {
+				break;
+			}
+			final int gn = g.get(n);
+			final List<Edge> edges = new ArrayList<Edge>(n.edges);
+			if (n.cluster == ce && toEnd[ce.index(n.tile)] != -1) {
+				edges.add(new Edge(goal, toEnd[ce.index(n.tile)]));
+			}
+			for (final Edge e : edges) {
+				final Integer old = g.get(e.to);
+				if (old == null || gn + e.cost < old) {
+					open.remove(e.to);
+					g.put(e.to, gn + e.cost);
+					f.put(e.to, gn + e.cost + heuristic(e.to.tile, end));
+					parent.put(e.to, n);
+					open.add(e.to);
+				}
+			}
+		}
+		if (!g.containsKey(goal)) {
+			return new Tile[0];
+		}
+		final LinkedList<Tile> path = new LinkedList<Tile>();
+		for (Node n = goal; n != null; n = parent.get(n)) {
+			path.addFirst(n.tile);
+		}
+		if (!path.getFirst().equals(start)) {
+			path.addFirst(start);
+		}
+		return path.toArray(new Tile[path.size()]);
+	}
+
+	/**
+	 * Rebuilds the portals and edges if collision data or transports have been added since the last build.
+	 */
+	public synchronized void build() {
+		if (!dirty) {
+			return;
+		}
+		dirty = false;
+		for (final Cluster c : clusters.values()) {
+			c.nodes.clear();
+		}
+		for (final Cluster a : clusters.values()) {
+			final Cluster east = clusters.get(key(a.cx + 1, a.cy, a.floor)),
+					north = clusters.get(key(a.cx, a.cy + 1, a.floor));
+			if (east != null) {
+				link(a, east, 1, 0);
+			}
+			if (north != null) {
+				link(a, north, 0, 1);
+			}
+		}
+		for (final Transport t : transports) {
+			final Cluster from = cluster(t.from), to = cluster(t.to);
+			if (from != null && to != null) {
+				from.node(t.from).edges.add(new Edge(to.node(t.to), t.cost));
+			}
+		}
+		for (final Cluster c : clusters.values()) {
+			final List<Node> nodes = new ArrayList<Node>(c.nodes.values());
+			for (final Node n : nodes) {
+				final int[] steps = c.flood(n.tile, false);
+				for (final Node o : nodes) {
+					final int d = steps[c.index(o.tile)];
+					if (o != n && d != -1) {
+						n.edges.add(new Edge(o, d));
+					}
+				}
+			}
+		}
+	}
+
+	private void link(final Cluster a, final Cluster b, final int dx, final int dy) {
+		final int ax = a.cx * SIZE, ay = a.cy * SIZE;
+		final CollisionSnapshot.Flags border = new CollisionSnapshot.Flags() {
+			@Override
+			public int flag(final int x, final int y) {
+				final Cluster c = x < SIZE && y < SIZE ? a : b;
+				return c.flags[(x % SIZE) * SIZE + y % SIZE];
+			}
+		};
+		final int[] run = {-1, -1};
+		for (int i = 0; i <= SIZE; i++) {
+			final int x = dx != 0 ? SIZE - 1 : i, y = dy != 0 ? SIZE - 1 : i;
+			for (int d = 0; d < run.length; d++) {
+				final boolean open = i < SIZE && (d == 0 ?
+						(a.flags[x * SIZE + y] & CollisionSnapshot.BLOCKED) == 0 && CollisionSnapshot.walkable(border, x, y, dx, dy) :
+						(border.flag(x + dx, y + dy) & CollisionSnapshot.BLOCKED) == 0 && CollisionSnapshot.walkable(border, x + dx, y + dy, -dx, -dy));
+				if (open && run[d] == -1) {
+					run[d] = i;
+				} else if (!open && run[d] != -1) {
+					final int mid = (run[d] + i - 1) / 2;
+					final Tile ta = dx != 0 ? new Tile(ax + SIZE - 1, ay + mid, a.floor) : new Tile(ax + mid, ay + SIZE - 1, a.floor);
+					final Tile tb = ta.derive(dx, dy);
+					final Node na = a.node(ta), nb = b.node(tb);
+					if (d == 0) {
+						na.edges.add(new Edge(nb, 1));
+					} else {
+						nb.edges.add(new Edge(na, 1));
+					}
+					run[d] = -1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Estimates the cost between two tiles without overestimating it. A route which walks costs at least the
+	 * Chebyshev distance, while one which uses a transport costs at least the cheapest transport.
+	 */
+	private int heuristic(final Tile a, final Tile b) {
+		return Math.min(Math.max(Math.abs(a.x() - b.x()), Math.abs(a.y() - b.y())), cheapest);
+	}
+
+	private static int key(final int cx, final int cy, final int floor) {
+		return floor << 28 | cx << 14 | cy;
+	}
+
+	private Cluster cluster(final Tile t) {
+		return t == null || t == Tile.NIL ? null : cluster(t.x() / SIZE, t.y() / SIZE, t.floor(), false);
+	}
+
+	private Cluster cluster(final int cx, final int cy, final int floor, final boolean create) {
+		final int k = key(cx, cy, floor);
+		Cluster c = clusters.get(k);
+		if (c == null && create) {
+			c = new Cluster(cx, cy, floor);
+			clusters.put(k, c);
+		}
+		return c;
+	}
+
+	private static final class Cluster implements CollisionSnapshot.Flags {
+		private final int cx, cy, floor;
+		private final int[] flags;
+		private final Map<Tile, Node> nodes;
+
+		private Cluster(final int cx, final int cy, final int floor) {
+			this.cx = cx;
+			this.cy = cy;
+			this.floor = floor;
+			flags = new int[SIZE * SIZE];
+			Arrays.fill(flags, CollisionSnapshot.BLOCKED);
+			nodes = new HashMap<Tile, Node>();
+		}
+
+		@Override
+		public int flag(final int x, final int y) {
+			return x >= 0 && y >= 0 && x < SIZE && y < SIZE ? flags[x * SIZE + y] : CollisionSnapshot.BLOCKED;
+		}
+
+		private int index(final Tile t) {
+			return (t.x() % SIZE) * SIZE + t.y() % SIZE;
+		}
+
+		private Node node(final Tile t) {
+			Node n = nodes.get(t);
+			if (n == null) {
+				n = new Node(t, this);
+				nodes.put(t, n);
+			}
+			return n;
+		}
+
+		/**
+		 * Computes the walking distance from a tile to every tile of this cluster without leaving it, or from every
+		 * tile to it when reversed, as walls may only block one direction.
+		 *
+		 * @param t       the tile to flood from
+		 * @param reverse whether to measure the distance to {@code t} rather than from it
+		 * @return the steps to each tile, indexed by {@link #index(Tile)}, where {@code -1} is unreachable
+		 */
+		private int[] flood(final Tile t, final boolean reverse) {
+			final int[] steps = new int[SIZE * SIZE];
+			Arrays.fill(steps, -1);
+			final int[] queue = new int[steps.length];
+			int head = 0, tail = 0;
+			steps[index(t)] = 0;
+			queue[tail++] = index(t);
+			while (head < tail) {
+				final int i = queue[head++], x = i / SIZE, y = i % SIZE;
+				for (int dx = -1; dx <= 1; dx++) {
+					for (int dy = -1; dy <= 1; dy++) {
+						final int nx = x + dx, ny = y + dy, n = nx * SIZE + ny;
+						if ((dx == 0 && dy == 0) || nx < 0 || ny < 0 || nx >= SIZE || ny >= SIZE ||
+								steps[n] != -1 || !(reverse ? CollisionSnapshot.walkable(this, nx, ny, -dx, -dy) :
+							CollisionSnapshot.walkable(this, x, y, dx, dy))) {
+							continue;
+						}
+						steps[n] = steps[i] + 1;
+						queue[tail++] = n;
+					}
+				}
+			}
+			return steps;
+		}
+	}
+
+	private static final class Node {
+		private final Tile tile;
+		private final Cluster cluster;
+		private final List<Edge> edges;
+
+		private Node(final Tile tile, final Cluster cluster) {
+			this.tile = tile;
+			this.cluster = cluster;
+			edges = new ArrayList<Edge>(4);
+		}
+	}
+
+	private static final class Edge {
+		private final Node to;
+		private final int cost;
+
+		private Edge(final Node to, final int cost) {
+			this.to = to;
+			this.cost = cost;
+		}
+	}
+
+	private static final class Transport {
+		private final Tile from, to;
+		private final int cost;
+
+		private Transport(final Tile from, final Tile to, final int cost) {
+			this.from = from;
+			this.to = to;
+			this.cost = cost;
+		}
+	}
+}
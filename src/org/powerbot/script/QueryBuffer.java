@@ -0,0 +1,89 @@
+package org.powerbot.script;
+
+import java.util.Arrays;
+
+/**
+ * QueryBuffer
+ * The per-thread item cache of an {@link AbstractQuery}.
+ * Each operation writes its result into a second array and then swaps it in, so the current array is never changed
+ * in place; iterators and re-entrant operations reading it keep a consistent snapshot, while the replaced array is
+ * reused when nothing else can still be reading it.
+ *
+ * @param <K> the item type
+ */
+final class QueryBuffer<K> {
+	private static final Object[] EMPTY = new Object[0];
+	private Object[] items = EMPTY, spare = null;
+	private int size = 0, busy = 0;
+	private boolean shared = false;
+
+	int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	K get(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		return (K) items[index];
+	}
+
+	/**
+	 * Returns the current array for reading between {@link #begin(int)} and {@link #end()}.
+	 * Unlike {@link #snapshot()}, the array may be reused once it has been replaced.
+	 *
+	 * @return the current array, of which the first {@link #size()} elements are the items
+	 */
+	Object[] array() {
+		return items;
+	}
+
+	/**
+	 * Returns the current array, which will not be reused while the caller may still be reading it.
+	 *
+	 * @return the current array, of which the first {@link #size()} elements are the items
+	 */
+	Object[] snapshot() {
+		shared = true;
+		return items;
+	}
+
+	/**
+	 * Starts an operation, which must be followed by {@link #end()}.
+	 *
+	 * @param capacity the maximum number of items the result can have
+	 * @return the array to write the result to
+	 */
+	Object[] begin(final int capacity) {
+		busy++;
+		if (busy == 1 && spare != null && spare.length >= capacity) {
+			final Object[] a = spare;
+			spare = null;
+			return a;
+		}
+		return capacity == 0 ? EMPTY : new Object[capacity];
+	}
+
+	/**
+	 * Replaces the items with the result of an operation.
+	 *
+	 * @param a    the array returned by {@link #begin(int)}
+	 * @param size the number of items written
+	 */
+	void commit(final Object[] a, final int size) {
+		final Object[] old = items;
+		final int n = this.size;
+		items = a;
+		this.size = size;
+		if (busy == 1 && !shared && old != EMPTY && old != a) {
+			Arrays.fill(old, 0, n, null);
+			spare = old;
+		}
+		shared = false;
+	}
+
+	void end() {
+		busy--;
+	}
+}
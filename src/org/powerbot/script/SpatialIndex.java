@@ -0,0 +1,233 @@
+package org.powerbot.script;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SpatialIndex
+ * A snapshot of entities bucketed into a uniform grid of {@link #CELL}x{@link #CELL} tile cells, so that location
+ * queries only visit the cells which can contain a match.
+ *
+ * @param <E> the entity type
+ */
+public class SpatialIndex<E extends Locatable> {
+	public static final int CELL = 8;
+	private final Map<Long, List<Entry<E>>> cells = new HashMap<Long, List<Entry<E>>>();
+	private int floors = 0, minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+
+	/**
+	 * Indexes the entities, reading the tile of each once.
+	 *
+	 * @param entities the entities to index
+	 */
+	public SpatialIndex(final Iterable<E> entities) {
+		int order = 0;
+		for (final E e : entities) {
+			final Tile t = e != null ? e.tile() : null;
+			if (t == null || t == Tile.NIL || t.floor() < 0 || t.floor() > 3) {
+				continue;
+			}
+			final int cx = t.x() >> 3, cy = t.y() >> 3;
+			final Long key = key(t.floor(), cx, cy);
+			List<Entry<E>> cell = cells.get(key);
+			if (cell == null) {
+				cells.put(key, cell = new ArrayList<Entry<E>>());
+			}
+			cell.add(new Entry<E>(e, t, order++));
+			floors |= 1 << t.floor();
+			minX = Math.min(minX, cx);
+			minY = Math.min(minY, cy);
+			maxX = Math.max(maxX, cx);
+			maxY = Math.max(maxY, cy);
+		}
+	}
+
+	private static long key(final int floor, final int cx, final int cy) {
+		return (long) floor << 48 | (long) (cx & 0xffffff) << 24 | cy & 0xffffff;
+	}
+
+	/**
+	 * Returns the entities on a tile.
+	 *
+	 * @param locatable the tile
+	 * @return the entities, in indexing order
+	 */
+	public List<E> at(final Locatable locatable) {
+		final List<E> r = new ArrayList<E>();
+		final Tile t = locatable.tile();
+		final List<Entry<E>> cell = cells.get(key(t.floor(), t.x() >> 3, t.y() >> 3));
+		if (cell != null) {
+			for (final Entry<E> e : cell) {
+				if (e.tile.equals(t)) {
+					r.add(e.entity);
+				}
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Returns the entities within a distance of a location, as measured by {@link Tile#distanceTo(Locatable)}.
+	 *
+	 * @param locatable the location
+	 * @param radius    the maximum distance
+	 * @return the entities, in indexing order
+	 */
+	public List<E> within(final Locatable locatable, final double radius) {
+		final List<Entry<E>> r = new ArrayList<Entry<E>>();
+		final Tile t = locatable.tile();
+		if (t == null || t == Tile.NIL || radius < 0) {
+			return new ArrayList<E>();
+		}
+		final int reach = (int) Math.ceil(Math.min(radius, 1 << 20));
+		final double r2 = radius * radius;
+		for (int cx = Math.max(minX, (t.x() - reach) >> 3); cx <= Math.min(maxX, (t.x() + reach) >> 3); cx++) {
+			for (int cy = Math.max(minY, (t.y() - reach) >> 3); cy <= Math.min(maxY, (t.y() + reach) >> 3); cy++) {
+				final List<Entry<E>> cell = cells.get(key(t.floor(), cx, cy));
+				if (cell == null) {
+					continue;
+				}
+				for (final Entry<E> e : cell) {
+					if (distance2(e.tile, t) <= r2) {
+						r.add(e);
+					}
+				}
+			}
+		}
+		return entities(sort(r, null));
+	}
+
+	/**
+	 * Returns the entities within an area.
+	 *
+	 * @param area the area
+	 * @return the entities, in indexing order
+	 */
+	public List<E> within(final Area area) {
+		final List<Entry<E>> r = new ArrayList<Entry<E>>();
+		final Rectangle b = area.getPolygon().getBounds();
+		for (int floor = 0; floor < 4; floor++) {
+			if ((floors & 1 << floor) == 0) {
+				continue;
+			}
+			for (int cx = Math.max(minX, b.x >> 3); cx <= Math.min(maxX, (b.x + b.width) >> 3); cx++) {
+				for (int cy = Math.max(minY, b.y >> 3); cy <= Math.min(maxY, (b.y + b.height) >> 3); cy++) {
+					final List<Entry<E>> cell = cells.get(key(floor, cx, cy));
+					if (cell == null) {
+						continue;
+					}
+					for (final Entry<E> e : cell) {
+						if (area.contains(e.tile)) {
+							r.add(e);
+						}
+					}
+				}
+			}
+		}
+		return entities(sort(r, null));
+	}
+
+	/**
+	 * Finds the nearest entity to a location.
+	 *
+	 * @param locatable the location
+	 * @return the nearest entity; or {@code null} if there are none on the same floor
+	 */
+	public E nearest(final Locatable locatable) {
+		final List<E> r = nearest(locatable, 1);
+		return r.isEmpty() ? null : r.get(0);
+	}
+
+	/**
+	 * Finds the nearest entities to a location, searching outwards one ring of cells at a time.
+	 *
+	 * @param locatable the location
+	 * @param count     the maximum number of entities to return
+	 * @return the entities, nearest first
+	 */
+	public List<E> nearest(final Locatable locatable, final int count) {
+		final List<Entry<E>> r = new ArrayList<Entry<E>>();
+		final Tile t = locatable.tile();
+		if (t == null || t == Tile.NIL || count < 1 || cells.isEmpty()) {
+			return new ArrayList<E>();
+		}
+		final int ox = t.x() >> 3, oy = t.y() >> 3;
+		final int rings = Math.max(Math.max(ox - minX, maxX - ox), Math.max(oy - minY, maxY - oy));
+		double worst = Double.POSITIVE_INFINITY;
+		for (int ring = 0; ring <= rings; ring++) {
+			final double bound = Math.max(0, ring - 1) * CELL;
+			if (r.size() >= count && bound * bound > worst) {
+				break;
+			}
+			for (int cx = ox - ring; cx <= ox + ring; cx++) {
+				for (int cy = oy - ring; cy <= oy + ring; cy++) {
+					if (Math.abs(cx - ox) != ring && Math.abs(cy - oy) != ring) {
+						continue;
+					}
+					final List<Entry<E>> cell = cells.get(key(t.floor(), cx, cy));
+					if (cell != null) {
+						r.addAll(cell);
+					}
+				}
+			}
+			if (r.size() >= count) {
+				worst = distance2(sort(r, t).get(count - 1).tile, t);
+			}
+		}
+		sort(r, t);
+		return entities(r.size() > count ? r.subList(0, count) : r);
+	}
+
+	private static double distance2(final Tile a, final Tile b) {
+		final double dx = a.x() - b.x(), dy = a.y() - b.y();
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Sorts entries by distance to a tile, then by indexing order.
+	 *
+	 * @param entries the entries to sort
+	 * @param t       the tile to measure from; or {@code null} to sort by indexing order only
+	 * @return {@code entries}
+	 */
+	private List<Entry<E>> sort(final List<Entry<E>> entries, final Tile t) {
+		Collections.sort(entries, new Comparator<Entry<E>>() {
+			@Override
+			public int compare(final Entry<E> o1, final Entry<E> o2) {
+				if (t != null) {
+					final double d1 = distance2(o1.tile, t), d2 = distance2(o2.tile, t);
+					if (d1 != d2) {
+						return d1 < d2 ? -1 : 1;
+					}
+				}
+				return o1.order - o2.order;
+			}
+		});
+		return entries;
+	}
+
+	private List<E> entities(final List<Entry<E>> entries) {
+		final List<E> r = new ArrayList<E>(entries.size());
+		for (final Entry<E> e : entries) {
+			r.add(e.entity);
+		}
+		return r;
+	}
+
+	private static final class Entry<E> {
+		private final E entity;
+		private final Tile tile;
+		private final int order;
+
+		private Entry(final E entity, final Tile tile, final int order) {
+			this.entity = entity;
+			this.tile = tile;
+			this.order = order;
+		}
+	}
+}
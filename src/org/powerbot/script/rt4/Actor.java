@@ -2,10 +2,12 @@ package org.powerbot.script.rt4;
 
 import java.awt.Point;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.CombatStatus;
 import org.powerbot.bot.rt4.client.CombatStatusData;
 import org.powerbot.bot.rt4.client.Node;
+import org.powerbot.script.CycleMemo;
 import org.powerbot.script.InteractiveEntity;
 import org.powerbot.script.Nameable;
 import org.powerbot.script.Tile;
@@ -16,6 +18,12 @@ import org.powerbot.script.Validatable;
  * A base class of all characters within Runescape.
  */
 public abstract class Actor extends Interactive implements InteractiveEntity, Nameable, Validatable {
+	static final int MEMO_TILE = 0;
+	static final int MEMO_HEALTH = 1;
+	static final int MEMO_NAME = 2;
+	static final int MEMO_ID = 3;
+	private CycleMemo memo;
+
 	Actor(final ClientContext ctx) {
 		super(ctx);
 		bounds(new int[]{-32, 32, -192, 0, -32, 32});
@@ -78,15 +86,8 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 		return data != null && data[1] != null && data[1].getCycleEnd() < client.getCycle();
 	}
 
-	private int healthPercent() {
-		if (!valid()) {
-			return -1;
-		}
-		final CombatStatusData[] data = getBarData();
-		if (data == null || data[1] == null) {
-			return 100;
-		}
-		return (int) Math.ceil(data[1].getHealthRatio() * 100d / 255d);
+	int healthPercent() {
+		return (Integer) memo(MEMO_HEALTH);
 	}
 
 	@Deprecated
@@ -111,15 +112,14 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 			return nil;
 		}
 		if (index < 32768) {
-			final org.powerbot.bot.rt4.client.Npc[] npcs = client.getNpcs();
-			return index >= 0 && index < npcs.length ? new Npc(ctx, npcs[index]) : nil;
+			return new Npc(ctx, client.getNpcAt(index));
 		} else {
 			final int pos = index - 32768;
 			if (pos == client.getPlayerIndex()) {
 				return new Player(ctx, client.getPlayer());
 			}
-			final org.powerbot.bot.rt4.client.Player[] players = client.getPlayers();
-			return pos >= 0 && pos < players.length ? new Player(ctx, players[pos]) : nil;
+			final ProxyArray<org.powerbot.bot.rt4.client.Player> players = client.getPlayerArray();
+			return pos >= 0 && pos < players.length() ? new Player(ctx, players.get(pos)) : nil;
 		}
 	}
 
@@ -138,12 +138,7 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 
 	@Override
 	public Tile tile() {
-		final Client client = ctx.client();
-		final org.powerbot.bot.rt4.client.Actor actor = getActor();
-		if (client != null && actor != null) {
-			return new Tile(client.getOffsetX() + (actor.getX() >> 7), client.getOffsetY() + (actor.getZ() >> 7), client.getFloor());
-		}
-		return Tile.NIL;
+		return (Tile) memo(MEMO_TILE);
 	}
 
 	@Override
@@ -245,4 +240,60 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 		}
 		return data;
 	}
+
+	/**
+	 * Returns a value derived during the current game cycle, which is memoized if the {@code memo.cycle} property
+	 * was enabled when this actor first derived a value.
+	 *
+	 * @param slot the index of the value
+	 * @return the value
+	 */
+	final Object memo(final int slot) {
+		if (memo == null) {
+			memo = ctx.clock.memoize() ? ctx.clock.memo(4, new CycleMemo.Source() {
+				@Override
+				public Object derive(final int slot) {
+					return Actor.this.derive(slot);
+				}
+			}) : CycleMemo.NONE;
+		}
+		return memo != CycleMemo.NONE ? memo.get(slot) : derive(slot);
+	}
+
+	/**
+	 * Derives a memoized value from the game state.
+	 *
+	 * @param slot the index of the value
+	 * @return the value; or {@code null} if the slot is unknown
+	 */
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_HEALTH:
+			return deriveHealthPercent();
+		case MEMO_TILE:
+			return deriveTile();
+		default:
+			return null;
+		}
+	}
+
+	private int deriveHealthPercent() {
+		if (!valid()) {
+			return -1;
+		}
+		final CombatStatusData[] data = getBarData();
+		if (data == null || data[1] == null) {
+			return 100;
+		}
+		return (int) Math.ceil(data[1].getHealthRatio() * 100d / 255d);
+	}
+
+	private Tile deriveTile() {
+		final Client client = ctx.client();
+		final org.powerbot.bot.rt4.client.Actor actor = getActor();
+		if (client != null && actor != null) {
+			return new Tile(client.getOffsetX() + (actor.getX() >> 7), client.getOffsetY() + (actor.getZ() >> 7), client.getFloor());
+		}
+		return Tile.NIL;
+	}
 }
@@ -1,27 +1,24 @@
 package org.powerbot.script.rt4;
 
-import java.awt.Graphics;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
-import org.powerbot.bot.AbstractBot;
-import org.powerbot.bot.EventDispatcher;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.Entry;
 import org.powerbot.bot.rt4.client.EntryList;
 import org.powerbot.bot.rt4.client.MessageEntry;
 import org.powerbot.script.Condition;
 import org.powerbot.script.MessageEvent;
-import org.powerbot.script.PaintListener;
+import org.powerbot.script.MessagePump;
 
 /**
  * Chat
  * A utility class for simplifying interacting with the chat box.
  */
 public class Chat extends TextQuery<ChatOption> {
-	private final AtomicBoolean registered = new AtomicBoolean(false);
+	private MessagePump pump = null;
 
 	public Chat(final ClientContext ctx) {
 		super(ctx);
@@ -44,32 +41,30 @@ public class Chat extends TextQuery<ChatOption> {
 		return options;
 	}
 
+	/**
+	 * Starts dispatching a {@link MessageEvent} for every new chat message.
+	 */
 	public void register() {
-		if (!registered.compareAndSet(false, true)) {
-			return;
+		pump().start();
+	}
+
+	/**
+	 * Stops dispatching chat messages.
+	 */
+	public void unregister() {
+		pump().stop();
+	}
+
+	/**
+	 * Returns the pump which reads and dispatches chat messages.
+	 *
+	 * @return the message pump
+	 */
+	public synchronized MessagePump pump() {
+		if (pump == null) {
+			pump = new Pump();
 		}
-		final EventDispatcher e = ((AbstractBot) ctx.bot()).dispatcher;
-		e.add(new PaintListener() {
-			private final AtomicReference<Entry> previous = new AtomicReference<Entry>(null);
-
-			@Override
-			public void repaint(final Graphics graphics) {
-				final Client client = ctx.client();
-				if (client == null) {
-					return;
-				}
-				final EntryList q = client.getLoggerEntries();
-				final Entry s = q.getSentinel();
-				Entry c = s.getNext();
-				final Entry f = c;
-				while (!s.equals(c) && !c.isNull() && !c.equals(previous.get())) {
-					final MessageEntry m = new MessageEntry(c.reflector, c);
-					e.dispatch(new MessageEvent(m));
-					c = c.getNext();
-				}
-				previous.set(f);
-			}
-		});
+		return pump;
 	}
 
 	public boolean chatting() {
@@ -200,4 +195,32 @@ public class Chat extends TextQuery<ChatOption> {
 	public ChatOption nil() {
 		return new ChatOption(ctx, -1, null);
 	}
+
+	private final class Pump extends MessagePump {
+		private final AtomicReference<Entry> previous = new AtomicReference<Entry>(null);
+
+		private Pump() {
+			super(ctx, ctx.clock);
+		}
+
+		@Override
+		protected void read(final List<MessageEvent> messages) {
+			final Client client = ctx.client();
+			if (client == null) {
+				return;
+			}
+			final EntryList q = client.getLoggerEntries();
+			final Entry s = q.getSentinel();
+			Entry c = s.getNext();
+			final Entry f = c;
+			final int n = messages.size();
+			while (!s.equals(c) && !c.isNull() && !c.equals(previous.get())) {
+				final MessageEntry m = new MessageEntry(c.reflector, c);
+				messages.add(new MessageEvent(m));
+				c = c.getNext();
+			}
+			Collections.reverse(messages.subList(n, messages.size()));
+			previous.set(f);
+		}
+	}
 }
@@ -18,8 +18,10 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 	public final Bank bank;
 	public final Camera camera;
 	public final Chat chat;
+	public final GameClock clock;
 	public final Combat combat;
 	public final DepositBox depositBox;
+	public final Entities entities;
 	public final Equipment equipment;
 	public final Game game;
 	public final GroundItems groundItems;
@@ -49,8 +51,10 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 		bank = new Bank(this);
 		camera = new Camera(this);
 		chat = new Chat(this);
+		clock = new GameClock(this);
 		combat = new Combat(this);
 		depositBox = new DepositBox(this);
+		entities = new Entities(this);
 		equipment = new Equipment(this);
 		game = new Game(this);
 		groundItems = new GroundItems(this);
@@ -78,8 +82,10 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 		bank = ctx.bank;
 		camera = ctx.camera;
 		chat = ctx.chat;
+		clock = ctx.clock;
 		combat = ctx.combat;
 		depositBox = ctx.depositBox;
+		entities = ctx.entities;
 		equipment = ctx.equipment;
 		game = ctx.game;
 		groundItems = ctx.groundItems;
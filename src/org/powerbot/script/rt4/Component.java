@@ -6,6 +6,7 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.Arrays;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt4.HashTable;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.WidgetNode;
@@ -352,12 +353,8 @@ public class Component extends Interactive {
 			return null;
 		}
 		final Client client = ctx.client();
-		final org.powerbot.bot.rt4.client.Widget[][] arr = client != null ? client.getWidgets() : null;
-		if (arr != null && wi < arr.length) {
-			final org.powerbot.bot.rt4.client.Widget[] comps = arr[wi];
-			return comps != null && index < comps.length ? comps[index] : null;
-		}
-		return null;
+		final ProxyArray<org.powerbot.bot.rt4.client.Widget> comps = client != null ? client.getWidgetArray().get(wi) : null;
+		return comps != null && index < comps.length() ? comps.get(index) : null;
 	}
 
 	@Override
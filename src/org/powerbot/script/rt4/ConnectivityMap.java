@@ -0,0 +1,225 @@
+package org.powerbot.script.rt4;
+
+/**
+ * ConnectivityMap
+ * A snapshot of the client collision flags where every walkable tile is labelled with the area of tiles joined to it
+ * by steps in either direction.
+ */
+final class ConnectivityMap {
+	static final int[] DIR_X = {0, 1, 0, -1, -1, 1, 1, -1};
+	static final int[] DIR_Y = {1, 0, -1, 0, 1, 1, -1, -1};
+	private static final int[] DIR_OPPOSITE = {2, 3, 0, 1, 6, 7, 4, 5};
+	private static final int BLOCKED = Path.OBJECT_TILE | Path.OBJECT_BLOCK | Path.DECORATION_BLOCK;
+	private static final int[] DIR_WALL = {
+			Path.WALL_NORTH, Path.WALL_EAST, Path.WALL_SOUTH, Path.WALL_WEST,
+			Path.WALL_NORTHWEST | Path.WALL_NORTH | Path.WALL_WEST,
+			Path.WALL_NORTHEAST | Path.WALL_NORTH | Path.WALL_EAST,
+			Path.WALL_SOUTHEAST | Path.WALL_SOUTH | Path.WALL_EAST,
+			Path.WALL_SOUTHWEST | Path.WALL_SOUTH | Path.WALL_WEST
+	};
+	final int width, height;
+	private final int offX, offY;
+	private final int[][] source;
+	private final int[] flags, labels;
+	private final boolean[] oneWay;
+	private int cycle;
+
+	ConnectivityMap(final int[][] source, final int offX, final int offY, final int cycle) {
+		this.source = source;
+		this.offX = offX;
+		this.offY = offY;
+		this.cycle = cycle;
+		width = source.length;
+		int height = width;
+		for (final int[] col : source) {
+			height = Math.min(height, col.length);
+		}
+		this.height = height;
+		flags = new int[width * height];
+		for (int x = 0; x < width; x++) {
+			System.arraycopy(source[x], 0, flags, x * height, height);
+		}
+		labels = new int[flags.length];
+		oneWay = new boolean[flags.length + 1];
+		label();
+	}
+
+	/**
+	 * Determines if this snapshot still represents the provided collision flags.
+	 * The flags are only compared once per game cycle.
+	 *
+	 * @param source the collision flags to compare against
+	 * @param offX   the x offset of the collision flags
+	 * @param offY   the y offset of the collision flags
+	 * @param cycle  the current game cycle; or {@code -1} if unknown
+	 * @return <tt>true</tt> if the flags are unchanged; otherwise <tt>false</tt>
+	 */
+	boolean matches(final int[][] source, final int offX, final int offY, final int cycle) {
+		if (source != this.source || offX != this.offX || offY != this.offY) {
+			return false;
+		}
+		if (cycle != -1 && cycle == this.cycle) {
+			return true;
+		}
+		for (int x = 0; x < width; x++) {
+			final int[] col = source[x];
+			final int o = x * height;
+			for (int y = 0; y < height; y++) {
+				if (col[y] != flags[o + y]) {
+					return false;
+				}
+			}
+		}
+		this.cycle = cycle;
+		return true;
+	}
+
+	int index(final int x, final int y) {
+		return x < 0 || y < 0 || x >= width || y >= height ? -1 : x * height + y;
+	}
+
+	boolean blocked(final int index) {
+		return (flags[index] & BLOCKED) != 0;
+	}
+
+	/**
+	 * Determines the connected area of a tile.
+	 *
+	 * @param x the x relative to the map base
+	 * @param y the y relative to the map base
+	 * @return the area label; or {@code 0} if the tile is blocked or out of range
+	 */
+	int label(final int x, final int y) {
+		final int i = tile(x, y);
+		return i != -1 ? labels[i] : 0;
+	}
+
+	/**
+	 * Determines the index of a tile.
+	 *
+	 * @param x the x relative to the map base
+	 * @param y the y relative to the map base
+	 * @return the index; or {@code -1} if the tile is out of range
+	 */
+	int tile(final int x, final int y) {
+		return index(x - offX, y - offY);
+	}
+
+	/**
+	 * Determines if an area contains a step which can only be taken one way, such that two of its tiles sharing the
+	 * label does not imply that either can be reached from the other.
+	 *
+	 * @param label the area label
+	 * @return <tt>true</tt> if the area has a one way step; otherwise <tt>false</tt>
+	 */
+	boolean oneWay(final int label) {
+		return oneWay[label];
+	}
+
+	boolean connected(final int x1, final int y1, final int x2, final int y2) {
+		final int l = label(x1, y1);
+		if (l == 0 || l != label(x2, y2)) {
+			return false;
+		}
+		if (!oneWay[l]) {
+			return true;
+		}
+		final boolean[] goals = new boolean[flags.length];
+		goals[tile(x2, y2)] = true;
+		return reaches(x1, y1, goals);
+	}
+
+	/**
+	 * Searches the steps from a tile for any of the goal tiles.
+	 *
+	 * @param x     the x of the tile to search from, as given to {@link #label(int, int)}
+	 * @param y     the y of the tile to search from, as given to {@link #label(int, int)}
+	 * @param goals the goal tiles, indexed by {@link #tile(int, int)}
+	 * @return <tt>true</tt> if a goal tile is reachable; otherwise <tt>false</tt>
+	 */
+	boolean reaches(final int x, final int y, final boolean[] goals) {
+		final int from = tile(x, y);
+		if (from == -1 || blocked(from)) {
+			return false;
+		}
+		final boolean[] seen = new boolean[flags.length];
+		final int[] queue = new int[flags.length];
+		int head = 0, tail = 0;
+		seen[from] = true;
+		queue[tail++] = from;
+		while (head < tail) {
+			final int c = queue[head++];
+			if (goals[c]) {
+				return true;
+			}
+			for (int dir = 0; dir < 8; dir++) {
+				final int n = step(c, dir);
+				if (n != -1 && !seen[n]) {
+					seen[n] = true;
+					queue[tail++] = n;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determines the tile reached by stepping from a tile in the given direction.
+	 *
+	 * @param index the index of the tile to step from
+	 * @param dir   the direction, indexing {@link #DIR_X} and {@link #DIR_Y}
+	 * @return the index of the tile stepped to; or {@code -1} if the step is not walkable
+	 */
+	int step(final int index, final int dir) {
+		final int x = index / height, y = index % height;
+		final int dx = DIR_X[dir], dy = DIR_Y[dir];
+		final int n = index(x + dx, y + dy);
+		if (n == -1 || (flags[index] & DIR_WALL[dir]) != 0 || (flags[n] & BLOCKED) != 0) {
+			return -1;
+		}
+		if (dx != 0 && dy != 0 &&
+				((flags[(x + dx) * height + y] & (BLOCKED | (dy > 0 ? Path.WALL_NORTH : Path.WALL_SOUTH))) != 0 ||
+						(flags[x * height + y + dy] & (BLOCKED | (dx > 0 ? Path.WALL_EAST : Path.WALL_WEST))) != 0)) {
+			return -1;
+		}
+		return n;
+	}
+
+	/**
+	 * Labels the areas of tiles joined by steps in either direction, so that tiles with different labels can never
+	 * reach one another, and marks the areas joined by any step which cannot be taken back.
+	 */
+	private void label() {
+		final int[] queue = new int[flags.length];
+		int next = 0;
+		for (int i = 0; i < flags.length; i++) {
+			if (labels[i] != 0 || blocked(i)) {
+				continue;
+			}
+			labels[i] = ++next;
+			int head = 0, tail = 0;
+			queue[tail++] = i;
+			while (head < tail) {
+				final int c = queue[head++];
+				final int x = c / height, y = c % height;
+				for (int dir = 0; dir < 8; dir++) {
+					final int n = index(x + DIR_X[dir], y + DIR_Y[dir]);
+					if (n == -1 || blocked(n)) {
+						continue;
+					}
+					final boolean forward = step(c, dir) != -1, back = step(n, DIR_OPPOSITE[dir]) != -1;
+					if (!forward && !back) {
+						continue;
+					}
+					if (forward != back) {
+						oneWay[next] = true;
+					}
+					if (labels[n] == 0) {
+						labels[n] = next;
+						queue[tail++] = n;
+					}
+				}
+			}
+		}
+	}
+}
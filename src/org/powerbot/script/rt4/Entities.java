@@ -0,0 +1,166 @@
+package org.powerbot.script.rt4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.powerbot.bot.AbstractBot;
+import org.powerbot.bot.EventDispatcher;
+import org.powerbot.script.EntityDiffer;
+import org.powerbot.script.EntityEvent;
+
+/**
+ * Entities
+ * Tracks npcs, players, objects and ground items between game ticks and dispatches an {@link EntityEvent} for every change.
+ */
+public class Entities extends ClientAccessor {
+	private static final int TICK = 600;
+	private final Set<Kind> kinds = Collections.synchronizedSet(EnumSet.noneOf(Kind.class));
+	private final EntityDiffer<Npc> npcs = new ActorDiffer<Npc>();
+	private final EntityDiffer<Player> players = new ActorDiffer<Player>();
+	private final EntityDiffer<GameObject> objects = new EntityDiffer<GameObject>();
+	private final EntityDiffer<GroundItem> groundItems = new EntityDiffer<GroundItem>();
+	private Thread thread = null;
+
+	public Entities(final ClientContext ctx) {
+		super(ctx);
+	}
+
+	/**
+	 * Starts tracking npcs, players and ground items.
+	 * Objects are not included as tracking them scans the whole landscape every tick.
+	 */
+	public void register() {
+		register(Kind.NPCS, Kind.PLAYERS, Kind.GROUND_ITEMS);
+	}
+
+	/**
+	 * Starts tracking the provided kinds of entity.
+	 * Entities are compared once per game tick on a separate thread, which hands the changes to the event dispatcher.
+	 *
+	 * @param kinds the kinds of entity to track
+	 */
+	public synchronized void register(final Kind... kinds) {
+		for (final Kind k : kinds) {
+			if (this.kinds.add(k)) {
+				differ(k).reset();
+			}
+		}
+		if (thread != null || this.kinds.isEmpty()) {
+			return;
+		}
+		final EventDispatcher e = ((AbstractBot) ctx.bot()).dispatcher;
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				int cycle = -1;
+				long time = 0;
+				try {
+					while (!Thread.interrupted()) {
+						cycle = ctx.clock.next(cycle, TICK);
+						final long now = System.currentTimeMillis();
+						if (ctx.client() == null || ctx.game.clientState() != Constants.GAME_LOADED || now - time < TICK) {
+							continue;
+						}
+						time = now;
+						try {
+							for (final EntityEvent event : poll()) {
+								e.dispatch(event);
+							}
+						} catch (final RuntimeException ex) {
+							final Thread.UncaughtExceptionHandler x = Thread.getDefaultUncaughtExceptionHandler();
+							if (x != null) {
+								x.uncaughtException(Thread.currentThread(), ex);
+							}
+						}
+					}
+				} catch (final InterruptedException ignored) {
+				}
+			}
+		}, getClass().getSimpleName());
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops tracking the provided kinds of entity, stopping the tracking thread once no kinds remain.
+	 *
+	 * @param kinds the kinds of entity to stop tracking
+	 */
+	public synchronized void unregister(final Kind... kinds) {
+		this.kinds.removeAll(Arrays.asList(kinds));
+		if (this.kinds.isEmpty() && thread != null) {
+			thread.interrupt();
+			thread = null;
+		}
+	}
+
+	/**
+	 * Stops tracking every kind of entity.
+	 */
+	public void unregister() {
+		unregister(Kind.values());
+	}
+
+	/**
+	 * Compares every tracked kind of entity against the previous tick.
+	 *
+	 * @return the changes since the previous tick
+	 */
+	public List<EntityEvent> poll() {
+		final List<EntityEvent> events = new ArrayList<EntityEvent>();
+		final Kind[] kinds;
+		synchronized (this.kinds) {
+			kinds = this.kinds.toArray(new Kind[this.kinds.size()]);
+		}
+		for (final Kind k : kinds) {
+			switch (k) {
+			case NPCS:
+				events.addAll(npcs.diff(ctx.npcs.get()));
+				break;
+			case PLAYERS:
+				events.addAll(players.diff(ctx.players.get()));
+				break;
+			case OBJECTS:
+				events.addAll(objects.diff(ctx.objects.get()));
+				break;
+			case GROUND_ITEMS:
+				events.addAll(groundItems.diff(ctx.groundItems.get()));
+				break;
+			}
+		}
+		return events;
+	}
+
+	private EntityDiffer<?> differ(final Kind kind) {
+		switch (kind) {
+		case NPCS:
+			return npcs;
+		case PLAYERS:
+			return players;
+		case OBJECTS:
+			return objects;
+		default:
+			return groundItems;
+		}
+	}
+
+	public enum Kind {
+		NPCS, PLAYERS, OBJECTS, GROUND_ITEMS
+	}
+
+	private static final class ActorDiffer<A extends Actor> extends EntityDiffer<A> {
+		@Override
+		protected int animation(final A e) {
+			return e.animation();
+		}
+
+		@Override
+		protected int health(final A e) {
+			return e.healthPercent();
+		}
+	}
+}
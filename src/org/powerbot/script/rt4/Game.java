@@ -173,22 +173,7 @@ public class Game extends ClientAccessor {
 	}
 
 	public Point tileToMap(final Tile tile) {
-		final Client client = ctx.client();
-		if (client == null) {
-			return new Point(-1, -1);
-		}
-		final int rel = ctx.players.local().relative();
-		final int angle = client.getMinimapScale() + client.getMinimapAngle() & 0x7ff;
-		final int[] d = {tile.x(), tile.y(), ARRAY_SIN[angle], ARRAY_COS[angle], -1, -1};
-		d[0] = (d[0] - client.getOffsetX()) * 4 + 2 - (rel >> 16) / 32;
-		d[1] = (d[1] - client.getOffsetY()) * 4 + 2 - (rel & 0xffff) / 32;
-		final int offset = client.getMinimapOffset();
-		d[2] = d[2] << 8 / (offset + 256);
-		d[3] = d[3] << 8 / (offset + 256);
-		d[4] = d[1] * d[2] + d[3] * d[0] >> 16;
-		d[5] = d[2] * d[0] - d[1] * d[3] >> 16;
-		final Point centre = mapComponent().centerPoint();
-		return new Point(centre.x + d[4], centre.y + d[5]);
+		return new MinimapProjection(this).point(tile);
 	}
 
 	public int tileHeight(final int relativeX, final int relativeZ) {
@@ -239,9 +224,10 @@ public class Game extends ClientAccessor {
 			return r;
 		}
 		final int height = relativeY - h;
-		final int projectedX = relativeX - client.getCameraX(), projectedZ = relativeZ - client.getCameraZ(),
-				projectedY = height - client.getCameraY();
-		final int pitch = client.getCameraPitch(), yaw = client.getCameraYaw();
+		final int[] camera = client.getCamera();
+		final int projectedX = relativeX - camera[0], projectedZ = relativeZ - camera[2],
+				projectedY = height - camera[1];
+		final int pitch = camera[3], yaw = camera[4];
 		final int[] c = {ARRAY_SIN[yaw], ARRAY_COS[yaw], ARRAY_SIN[pitch], ARRAY_COS[pitch]};
 		final int rotatedX = c[0] * projectedZ + c[1] * projectedX >> 16;
 		final int rotatedZ = c[1] * projectedZ - c[0] * projectedX >> 16;
@@ -254,7 +240,7 @@ public class Game extends ClientAccessor {
 				mx = d.width / 2;
 				my = d.height / 2;
 			}
-			final int proj = client.getTileSize();
+			final int proj = camera[5];
 			return new Point(
 					(rotatedX * proj) / rolledZ + mx,
 					(rolledY * proj) / rolledZ + my
@@ -308,4 +294,88 @@ public class Game extends ClientAccessor {
 	public enum Crosshair implements org.powerbot.script.Crosshair {
 		NONE, DEFAULT, ACTION
 	}
+
+	/**
+	 * MinimapProjection
+	 * The minimap transform read once, so that many tiles can be projected without re-reading the client.
+	 */
+	static final class MinimapProjection {
+		private final boolean valid, resizable;
+		private final int baseX, baseY, relX, relY, sin, cos, centreX, centreY;
+
+		MinimapProjection(final Game game) {
+			final ClientContext ctx = game.ctx;
+			final Client client = ctx.client();
+			valid = client != null;
+			if (!valid) {
+				resizable = false;
+				baseX = baseY = relX = relY = sin = cos = centreX = centreY = 0;
+				return;
+			}
+			baseX = client.getOffsetX();
+			baseY = client.getOffsetY();
+			final int rel = ctx.players.local().relative();
+			relX = (rel >> 16) / 32;
+			relY = (rel & 0xffff) / 32;
+			final int angle = client.getMinimapScale() + client.getMinimapAngle() & 0x7ff;
+			final int offset = client.getMinimapOffset();
+			sin = ARRAY_SIN[angle] << 8 / (offset + 256);
+			cos = ARRAY_COS[angle] << 8 / (offset + 256);
+			final Point centre = game.mapComponent().centerPoint();
+			centreX = centre.x;
+			centreY = centre.y;
+			resizable = game.resizable();
+		}
+
+		Point point(final Tile tile) {
+			if (!valid) {
+				return new Point(-1, -1);
+			}
+			return new Point(centreX + projectX(tile), centreY + projectY(tile));
+		}
+
+		/**
+		 * Determines if a tile is drawn within the visible area of the minimap.
+		 *
+		 * @param tile the tile
+		 * @return <tt>true</tt> if on the minimap; otherwise <tt>false</tt>
+		 */
+		boolean onMap(final Tile tile) {
+			if (!valid) {
+				return false;
+			}
+			final int dx = projectX(tile), dy = projectY(tile);
+			final int d = dx * dx + dy * dy;
+			if (resizable) {
+				return d < 68 * 68;
+			}
+			final int py = centreY + dy;
+			return py < 70 ? d < 68 * 68 : py < 110 ? d < 64 * 64 : py < 135 ? d < 52 * 52 :
+					dx * dx + (54 - dy) * (54 - dy) < 16 * 16;
+		}
+
+		/**
+		 * Determines if a tile is within the loaded region.
+		 *
+		 * @param tile the tile
+		 * @return <tt>true</tt> if within the loaded region; otherwise <tt>false</tt>
+		 */
+		boolean valid(final Tile tile) {
+			if (!valid) {
+				return false;
+			}
+			final int x = tile.x() - baseX, y = tile.y() - baseY;
+			return x >= 0 && y >= 0 && x < 104 && y < 104;
+		}
+
+		private int projectX(final Tile tile) {
+			final int x = (tile.x() - baseX) * 4 + 2 - relX, y = (tile.y() - baseY) * 4 + 2 - relY;
+			return y * sin + cos * x >> 16;
+		}
+
+		private int projectY(final Tile tile) {
+			final int x = (tile.x() - baseX) * 4 + 2 - relX, y = (tile.y() - baseY) * 4 + 2 - relY;
+			return sin * x - y * cos >> 16;
+		}
+	}
 }
@@ -0,0 +1,26 @@
+package org.powerbot.script.rt4;
+
+import org.powerbot.bot.rt4.client.Client;
+import org.powerbot.script.CycleClock;
+
+/**
+ * GameClock
+ * A {@link CycleClock} driven by the client's cycle counter.
+ */
+public class GameClock extends CycleClock {
+	private final ClientContext ctx;
+
+	public GameClock(final ClientContext ctx) {
+		super(ctx);
+		this.ctx = ctx;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int cycle() {
+		final Client client = ctx.client();
+		return client != null ? client.getCycle() : -1;
+	}
+}
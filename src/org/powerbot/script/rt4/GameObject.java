@@ -9,6 +9,7 @@ import org.powerbot.bot.rt4.client.Cache;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.Varbit;
 import org.powerbot.script.Actionable;
+import org.powerbot.script.CycleMemo;
 import org.powerbot.script.Identifiable;
 import org.powerbot.script.InteractiveEntity;
 import org.powerbot.script.Nameable;
@@ -21,6 +22,9 @@ import org.powerbot.script.Validatable;
  */
 public class GameObject extends Interactive implements Nameable, InteractiveEntity, Identifiable, Validatable, Actionable {
 	public static final Color TARGET_COLOR = new Color(0, 255, 0, 20);
+	private static final int MEMO_TILE = 0;
+	private static final int MEMO_NAME = 1;
+	private static final int MEMO_ID = 2;
 	private static final int[] lookup;
 
 	static {
@@ -34,6 +38,7 @@ public class GameObject extends Interactive implements Nameable, InteractiveEnti
 
 	private final BasicObject object;
 	private final Type type;
+	private CycleMemo memo;
 
 	GameObject(final ClientContext ctx, final BasicObject object, final Type type) {
 		super(ctx);
@@ -69,56 +74,12 @@ public class GameObject extends Interactive implements Nameable, InteractiveEnti
 
 	@Override
 	public int id() {
-		final Client client = ctx.client();
-		if (client == null) {
-			return -1;
-		}
-		final int id = object != null ? (object.getUid() >> 14) & 0xffff : -1;
-		if (object == null) {
-			return id;
-		}
-		int index = -1;
-		final CacheObjectConfig c = CacheObjectConfig.load(Bot.CACHE_WORKER, id);
-		if (c == null) {
-			return id;
-		}
-		if (c.stageOperationId != -1) {
-			final Cache cache = client.getVarbitCache();
-			final Varbit varBit = new Varbit(object.object.reflector, HashTable.lookup(cache.getTable(), c.stageOperationId, Varbit.class));
-			if (varBit.obj.get() != null) {
-				final int mask = lookup[varBit.getEndBit() - varBit.getStartBit()];
-				index = ctx.varpbits.varpbit(varBit.getIndex()) >> varBit.getStartBit() & mask;
-			}
-		} else if (c.stageIndex >= 0) {
-			index = ctx.varpbits.varpbit(c.stageIndex);
-		}
-		if (index >= 0) {
-			final int[] configs = c.materialPointers;
-			if (configs != null && index < configs.length && configs[index] != -1) {
-				return configs[index];
-			}
-		}
-		return id;
+		return (Integer) memo(MEMO_ID);
 	}
 
 	@Override
 	public String name() {
-		if (object == null) {
-			return "";
-		}
-		final int id = (object.getUid() >> 14) & 0xffff;
-		final CacheObjectConfig
-				c1 = CacheObjectConfig.load(Bot.CACHE_WORKER, id),
-				c2 = CacheObjectConfig.load(Bot.CACHE_WORKER, id());
-		if (c2 != null) {
-			if (c1 != null && c2.name.equals("null")) {
-				return StringUtils.stripHtml(c1.name);
-			}
-			return StringUtils.stripHtml(c2.name);
-		} else if (c1 != null) {
-			return StringUtils.stripHtml(c1.name);
-		}
-		return "";
+		return (String) memo(MEMO_NAME);
 	}
 
 	public int[] colors1() {
@@ -211,13 +172,7 @@ public class GameObject extends Interactive implements Nameable, InteractiveEnti
 
 	@Override
 	public Tile tile() {
-		final Client client = ctx.client();
-		final int r = relative();
-		final int rx = r >> 16, rz = r & 0xffff;
-		if (client != null && rx != 0 && rz != 0) {
-			return new Tile(client.getOffsetX() + (rx >> 7), client.getOffsetY() + (rz >> 7), client.getFloor());
-		}
-		return Tile.NIL;
+		return (Tile) memo(MEMO_TILE);
 	}
 
 	@Override
@@ -253,6 +208,106 @@ public class GameObject extends Interactive implements Nameable, InteractiveEnti
 		return o instanceof GameObject && hashCode() == o.hashCode();
 	}
 
+	/**
+	 * Returns a value derived during the current game cycle, which is memoized if the {@code memo.cycle} property
+	 * was enabled when this object first derived a value.
+	 *
+	 * @param slot the index of the value
+	 * @return the value
+	 */
+	private Object memo(final int slot) {
+		if (memo == null) {
+			memo = ctx.clock.memoize() ? ctx.clock.memo(3, new CycleMemo.Source() {
+				@Override
+				public Object derive(final int slot) {
+					return GameObject.this.derive(slot);
+				}
+			}) : CycleMemo.NONE;
+		}
+		return memo != CycleMemo.NONE ? memo.get(slot) : derive(slot);
+	}
+
+	/**
+	 * Derives a memoized value from the game state.
+	 *
+	 * @param slot the index of the value
+	 * @return the value; or {@code null} if the slot is unknown
+	 */
+	private Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_ID:
+			return deriveId();
+		case MEMO_NAME:
+			return deriveName();
+		case MEMO_TILE:
+			return deriveTile();
+		default:
+			return null;
+		}
+	}
+
+	private int deriveId() {
+		final Client client = ctx.client();
+		if (client == null) {
+			return -1;
+		}
+		final int id = object != null ? (object.getUid() >> 14) & 0xffff : -1;
+		if (object == null) {
+			return id;
+		}
+		int index = -1;
+		final CacheObjectConfig c = CacheObjectConfig.load(Bot.CACHE_WORKER, id);
+		if (c == null) {
+			return id;
+		}
+		if (c.stageOperationId != -1) {
+			final Cache cache = client.getVarbitCache();
+			final Varbit varBit = new Varbit(object.object.reflector, HashTable.lookup(cache.getTable(), c.stageOperationId, Varbit.class));
+			if (varBit.obj.get() != null) {
+				final int mask = lookup[varBit.getEndBit() - varBit.getStartBit()];
+				index = ctx.varpbits.varpbit(varBit.getIndex()) >> varBit.getStartBit() & mask;
+			}
+		} else if (c.stageIndex >= 0) {
+			index = ctx.varpbits.varpbit(c.stageIndex);
+		}
+		if (index >= 0) {
+			final int[] configs = c.materialPointers;
+			if (configs != null && index < configs.length && configs[index] != -1) {
+				return configs[index];
+			}
+		}
+		return id;
+	}
+
+	private String deriveName() {
+		if (object == null) {
+			return "";
+		}
+		final int id = (object.getUid() >> 14) & 0xffff;
+		final CacheObjectConfig
+				c1 = CacheObjectConfig.load(Bot.CACHE_WORKER, id),
+				c2 = CacheObjectConfig.load(Bot.CACHE_WORKER, id());
+		if (c2 != null) {
+			if (c1 != null && c2.name.equals("null")) {
+				return StringUtils.stripHtml(c1.name);
+			}
+			return StringUtils.stripHtml(c2.name);
+		} else if (c1 != null) {
+			return StringUtils.stripHtml(c1.name);
+		}
+		return "";
+	}
+
+	private Tile deriveTile() {
+		final Client client = ctx.client();
+		final int r = relative();
+		final int rx = r >> 16, rz = r & 0xffff;
+		if (client != null && rx != 0 && rz != 0) {
+			return new Tile(client.getOffsetX() + (rx >> 7), client.getOffsetY() + (rz >> 7), client.getFloor());
+		}
+		return Tile.NIL;
+	}
+
 	public enum Type {
 		INTERACTIVE, BOUNDARY, WALL_DECORATION, FLOOR_DECORATION, UNKNOWN
 	}
@@ -11,13 +11,14 @@ import org.powerbot.script.Actionable;
 import org.powerbot.script.Identifiable;
 import org.powerbot.script.InteractiveEntity;
 import org.powerbot.script.Nameable;
+import org.powerbot.script.Stackable;
 import org.powerbot.script.Tile;
 import org.powerbot.script.Validatable;
 
 /**
  * GroundItem
  */
-public class GroundItem extends GenericItem implements Nameable, InteractiveEntity, Identifiable, Validatable, Actionable {
+public class GroundItem extends GenericItem implements Nameable, InteractiveEntity, Identifiable, Stackable, Validatable, Actionable {
 	public static final Color TARGET_COLOR = new Color(255, 255, 0, 75);
 	private final TileMatrix tile;
 	private final ItemNode node;
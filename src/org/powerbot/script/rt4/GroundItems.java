@@ -2,18 +2,34 @@ package org.powerbot.script.rt4;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.powerbot.bot.rt4.NodeQueue;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.ItemNode;
 import org.powerbot.bot.rt4.client.NodeDeque;
+import org.powerbot.script.GroundItemIndex;
 import org.powerbot.script.Tile;
 
 /**
  * GroundItems
  */
 public class GroundItems extends BasicQuery<GroundItem> {
+	private static final GroundItemIndex.Values VALUES = new GroundItemIndex.Values() {
+		private final Map<Integer, Integer> values = new ConcurrentHashMap<Integer, Integer>();
+
+		@Override
+		public int value(final int id) {
+			Integer v = values.get(id);
+			if (v == null) {
+				values.put(id, v = Math.max(0, CacheItemConfig.load(id).value));
+			}
+			return v;
+		}
+	};
+
 	public GroundItems(final ClientContext ctx) {
 		super(ctx);
 	}
@@ -23,6 +39,17 @@ public class GroundItems extends BasicQuery<GroundItem> {
 		return select(get(radius, client != null ? client.getFloor() : -1));
 	}
 
+	/**
+	 * Indexes the ground items within a radius by tile and by id.
+	 *
+	 * @param radius the radius, in tiles
+	 * @return the index
+	 */
+	public GroundItemIndex<GroundItem> index(final int radius) {
+		final Client client = ctx.client();
+		return new GroundItemIndex<GroundItem>(get(radius, client != null ? client.getFloor() : -1), VALUES);
+	}
+
 	@Override
 	public List<GroundItem> get() {
 		final Client client = ctx.client();
@@ -239,12 +239,12 @@ public abstract class Interactive extends ClientAccessor implements org.powerbot
 	 */
 	@Override
 	public boolean click(final Crosshair result) {
-		return click() && Condition.wait(new Condition.Check() {
+		return click() && Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return ctx.game.crosshair() == result;
 			}
-		}, 10, 5);
+		}, 50);
 	}
 
 	/**
@@ -252,12 +252,12 @@ public abstract class Interactive extends ClientAccessor implements org.powerbot
 	 */
 	@Override
 	public boolean click(final String action, final Crosshair result) {
-		return click(action) && Condition.wait(new Condition.Check() {
+		return click(action) && Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return ctx.game.crosshair() == result;
 			}
-		}, 10, 5);
+		}, 50);
 	}
 
 	/**
@@ -265,12 +265,12 @@ public abstract class Interactive extends ClientAccessor implements org.powerbot
 	 */
 	@Override
 	public boolean click(final String action, final String option, final Crosshair result) {
-		return click(action, option) && Condition.wait(new Condition.Check() {
+		return click(action, option) && Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return ctx.game.crosshair() == result;
 			}
-		}, 10, 5);
+		}, 50);
 	}
 
 	/**
@@ -278,12 +278,12 @@ public abstract class Interactive extends ClientAccessor implements org.powerbot
 	 */
 	@Override
 	public boolean click(final Filter<? super MenuCommand> c, final Crosshair result) {
-		return click(c) && Condition.wait(new Condition.Check() {
+		return click(c) && Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return ctx.game.crosshair() == result;
 			}
-		}, 10, 5);
+		}, 50);
 	}
 
 	/**
@@ -41,66 +41,110 @@ public class LocalPath extends Path {
 			return null;
 		}
 		final int[][] arr = map.getFlags();
-		final double[][] costs = getCosts(ctx, arr.length, arr.length);
-		return arr != null ? new Graph(arr, costs, map.getOffsetX(), map.getOffsetY()) : null;
+		if (arr == null) {
+			return null;
+		}
+		final CostMap costs = ctx.movement.costMap(floor, arr);
+		return new Graph(arr, costs, Random.nextInt(0, Integer.MAX_VALUE), map.getOffsetX(), map.getOffsetY());
 	}
 
-	static double[][] getCosts(final ClientContext ctx, final int w, final int h) {
-		final Client client = ctx.client();
-		final Landscape landscape = client.getLandscape();
-		final org.powerbot.bot.rt4.client.Tile[][][] tiles;
-		final int floor = client.getFloor();
-		final org.powerbot.bot.rt4.client.Tile[][] rows;
-		if (landscape == null || (tiles = landscape.getTiles()) == null ||
-				floor < 0 || floor > tiles.length || (rows = tiles[floor]) == null) {
-			return new double[0][0];
-		}
-		final double[][] arr = new double[w][h];
-		for (int x = 0; x < Math.min(w, rows.length); x++) {
-			final org.powerbot.bot.rt4.client.Tile[] row = rows[x];
-			if (row == null) {
-				continue;
+	/**
+	 * Cheap deterministic noise used to vary the cost of each tile between searches.
+	 *
+	 * @param seed the seed of the search
+	 * @param x    the x
+	 * @param y    the y
+	 * @return a value within [0, 1)
+	 */
+	static float jitter(final int seed, final int x, final int y) {
+		int h = seed ^ x * 0x9e3779b1 ^ y * 0x85ebca6b;
+		h ^= h >>> 16;
+		h *= 0x7feb352d;
+		h ^= h >>> 15;
+		h *= 0x846ca68b;
+		h ^= h >>> 16;
+		return (h >>> 8) / (float) (1 << 24);
+	}
+
+	static void dijkstra(final Graph graph, final Node source, final Node target) {
+		source.g = 0d;
+		source.f = 0d;
+
+		final Queue<Node> queue = new PriorityQueue<Node>(8, new Comparator<Node>() {
+			@Override
+			public int compare(final Node o1, final Node o2) {
+				final int c = Double.compare(o1.f, o2.f);
+				return c != 0 ? c : o1.x != o2.x ? o1.x - o2.x : o1.y - o2.y;
 			}
-			final int h2 = row.length;
-			for (int y = 0; y < Math.min(h, h2); y++) {
-				final org.powerbot.bot.rt4.client.Tile tile = row[y];
-				if (tile == null) {
+		});
+
+		final double sqrt2 = Math.sqrt(2);
+
+		queue.add(source);
+		source.opened = true;
+		while (!queue.isEmpty()) {
+			final Node node = queue.poll();
+			node.closed = true;
+			if (node.equals(target)) {
+				break;
+			}
+			for (final Node neighbor : graph.neighbors(node)) {
+				if (neighbor.closed) {
 					continue;
 				}
+				final double ng = node.g + ((neighbor.x - node.x == 0 || neighbor.y - node.y == 0) ? 1d : sqrt2);
 
-				if (tile.getGameObjectLength() > 0 ||
-						tile.getBoundaryObject() != null || tile.getWallObject() != null) {
-					for (int dx = Math.max(0, x - 1); dx <= Math.min(w - 1, x + 1); dx++) {
-						for (int dy = Math.max(0, y - 1); dy <= Math.min(h - 1, y + 1); dy++) {
-							arr[dx][dy] += Random.nextDouble();
-						}
+				if (!neighbor.opened || ng < neighbor.g) {
+					neighbor.g = ng + graph.getNodeCost(node.x, node.y);
+					neighbor.h = 0;//no heuristic
+					neighbor.f = neighbor.g + neighbor.h;
+					neighbor.parent = node;
+
+					if (!neighbor.opened) {
+						queue.offer(neighbor);
+						neighbor.opened = true;
 					}
 				}
 			}
 		}
-		return arr;
 	}
 
-	static void dijkstra(final Graph graph, final Node source, final Node target) {
+	/**
+	 * Floods the graph from the source until every reachable target has been settled.
+	 *
+	 * @param graph   the graph to search
+	 * @param source  the node to start from
+	 * @param targets the nodes to settle; {@code null} entries are ignored
+	 */
+	static void dijkstra(final Graph graph, final Node source, final Node[] targets) {
 		source.g = 0d;
 		source.f = 0d;
 
 		final Queue<Node> queue = new PriorityQueue<Node>(8, new Comparator<Node>() {
 			@Override
 			public int compare(final Node o1, final Node o2) {
-				return Double.compare(o1.f, o2.f);
+				final int c = Double.compare(o1.f, o2.f);
+				return c != 0 ? c : o1.x != o2.x ? o1.x - o2.x : o1.y - o2.y;
 			}
 		});
 
+		int remaining = 0;
+		for (final Node n : targets) {
+			if (n != null && !n.target) {
+				n.target = true;
+				remaining++;
+			}
+		}
+
 		final double sqrt2 = Math.sqrt(2);
 
 		queue.add(source);
 		source.opened = true;
-		while (!queue.isEmpty()) {
+		while (!queue.isEmpty() && remaining > 0) {
 			final Node node = queue.poll();
 			node.closed = true;
-			if (node.equals(target)) {
-				break;
+			if (node.target) {
+				remaining--;
 			}
 			for (final Node neighbor : graph.neighbors(node)) {
 				if (neighbor.closed) {
@@ -110,8 +154,8 @@ public class LocalPath extends Path {
 
 				if (!neighbor.opened || ng < neighbor.g) {
 					neighbor.g = ng + graph.getNodeCost(node.x, node.y);
-					neighbor.h = 0;//no heuristic
-					neighbor.f = neighbor.g + neighbor.h;
+					neighbor.h = 0;
+					neighbor.f = neighbor.g;
 					neighbor.parent = node;
 
 					if (!neighbor.opened) {
@@ -123,6 +167,24 @@ public class LocalPath extends Path {
 		}
 	}
 
+	/**
+	 * Determines the length of the path found to the target, which is the same as {@code follow(target).length}.
+	 *
+	 * @param target the target node
+	 * @return the number of nodes in the path; or {@code 0} if the target was not reached
+	 */
+	static int length(Node target) {
+		if (!target.closed || Double.isInfinite(target.g)) {
+			return 0;
+		}
+		int l = 0;
+		while (target != null) {
+			l++;
+			target = target.parent;
+		}
+		return l;
+	}
+
 	static Node[] follow(Node target) {
 		final List<Node> nodes = new LinkedList<Node>();
 		if (Double.isInfinite(target.g)) {
@@ -200,15 +262,17 @@ public class LocalPath extends Path {
 
 	static final class Graph {
 		private final int offX, offY;
-		private final double[][] costs;
+		private final CostMap costs;
+		private final int seed;
 		private final Node[][] nodes;
 		private final int width, height;
 
-		private Graph(final int[][] flags, final double[][] costs, final int offX, final int offY) {
+		private Graph(final int[][] flags, final CostMap costs, final int seed, final int offX, final int offY) {
 			this.offX = offX;
 			this.offY = offY;
 			nodes = new Node[flags.length][];
 			this.costs = costs;
+			this.seed = seed;
 			width = flags.length;
 			int height = flags.length;
 			for (int x = 0; x < flags.length; x++) {
@@ -224,10 +288,8 @@ public class LocalPath extends Path {
 
 		private double getNodeCost(final int x, final int y) {
 			final int ox = x + offX, oy = y + offY;
-			if (ox >= 0 && oy >= 0 && ox < costs.length && oy < costs[ox].length) {
-				return costs[ox][oy];
-			}
-			return 0d;
+			final float c = costs.cost(ox, oy);
+			return c != 0f ? c * jitter(seed, ox, oy) : 0d;
 		}
 
 		Node getNode(final int x, final int y) {
@@ -238,6 +300,10 @@ public class LocalPath extends Path {
 			return null;
 		}
 
+		boolean blocked(final Node node) {
+			return (node.flag & (OBJECT_TILE | OBJECT_BLOCK | DECORATION_BLOCK)) != 0;
+		}
+
 		private List<Node> neighbors(final Node node) {
 			final List<Node> list = new ArrayList<Node>(8);
 			final int curr_x = node.x;
@@ -299,10 +365,83 @@ public class LocalPath extends Path {
 		}
 	}
 
+	/**
+	 * CostMap
+	 * The number of object-bearing tiles surrounding each tile of a floor, kept up to date by re-reading only
+	 * the tiles whose collision flags change.
+	 */
+	static final class CostMap {
+		private final int[][] source;
+		private final int floor, baseX, baseY;
+		private final int width, height;
+		private final int[] flags;
+		private final boolean[] occupied;
+		private final float[] costs;
+
+		CostMap(final int[][] source, final int floor, final int baseX, final int baseY) {
+			this.source = source;
+			this.floor = floor;
+			this.baseX = baseX;
+			this.baseY = baseY;
+			width = source.length;
+			int height = width;
+			for (final int[] col : source) {
+				height = Math.min(height, col.length);
+			}
+			this.height = height;
+			flags = new int[width * height];
+			occupied = new boolean[flags.length];
+			costs = new float[flags.length];
+		}
+
+		boolean matches(final int[][] source, final int floor, final int baseX, final int baseY) {
+			return source == this.source && floor == this.floor && baseX == this.baseX && baseY == this.baseY;
+		}
+
+		/**
+		 * Re-reads the objects of every tile whose collision flags changed since the last update.
+		 *
+		 * @param client the client
+		 * @param full   <tt>true</tt> to re-read every tile
+		 */
+		synchronized void update(final Client client, final boolean full) {
+			final Landscape landscape = client.getLandscape();
+			if (landscape.isNull()) {
+				return;
+			}
+			for (int x = 0; x < width; x++) {
+				final int[] col = source[x];
+				for (int y = 0; y < height; y++) {
+					final int i = x * height + y;
+					if (!full && col[y] == flags[i]) {
+						continue;
+					}
+					flags[i] = col[y];
+					final org.powerbot.bot.rt4.client.Tile tile = landscape.getTile(floor, x, y);
+					final boolean o = !tile.isNull() && (tile.getGameObjectLength() > 0 ||
+							!tile.getBoundaryObject().isNull() || !tile.getWallObject().isNull());
+					if (o == occupied[i]) {
+						continue;
+					}
+					occupied[i] = o;
+					for (int dx = Math.max(0, x - 1); dx <= Math.min(width - 1, x + 1); dx++) {
+						for (int dy = Math.max(0, y - 1); dy <= Math.min(height - 1, y + 1); dy++) {
+							costs[dx * height + dy] += o ? 1f : -1f;
+						}
+					}
+				}
+			}
+		}
+
+		float cost(final int x, final int y) {
+			return x >= 0 && y >= 0 && x < width && y < height ? costs[x * height + y] : 0f;
+		}
+	}
+
 	static final class Node {
 		public final int x, y;
 		public final int flag;
-		private boolean opened, closed;
+		private boolean opened, closed, target;
 		private Node parent;
 		private double f, g, h;
 
@@ -314,7 +453,7 @@ public class LocalPath extends Path {
 		}
 
 		private void reset() {
-			opened = closed = false;
+			opened = closed = target = false;
 			parent = null;
 			f = g = h = Double.POSITIVE_INFINITY;
 		}
@@ -142,12 +142,12 @@ public class Menu extends ClientAccessor {
 		} else {
 			ctx.input.move(x1, y1);
 		}
-		return Condition.wait(new Condition.Check() {
+		return Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return client.isMenuOpen();
 			}
-		}, 10, 50);
+		}, 500);
 	}
 
 	/**
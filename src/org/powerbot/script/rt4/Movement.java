@@ -2,11 +2,18 @@ package org.powerbot.script.rt4;
 
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.powerbot.bot.rt4.client.Client;
+import org.powerbot.bot.rt4.client.CollisionMap;
+import org.powerbot.script.Area;
+import org.powerbot.script.CollisionSnapshot;
 import org.powerbot.script.Condition;
 import org.powerbot.script.Filter;
 import org.powerbot.script.Locatable;
+import org.powerbot.script.PortalGraph;
 import org.powerbot.script.Targetable;
 import org.powerbot.script.Tile;
 
@@ -15,6 +22,9 @@ import org.powerbot.script.Tile;
  */
 public class Movement extends ClientAccessor {
 
+	private final ConnectivityMap[] connectivity = new ConnectivityMap[4];
+	private final LocalPath.CostMap[] costs = new LocalPath.CostMap[4];
+
 	public Movement(final ClientContext ctx) {
 		super(ctx);
 	}
@@ -45,6 +55,20 @@ public class Movement extends ClientAccessor {
 		return new LocalPath(ctx, locatable);
 	}
 
+	/**
+	 * Creates a path to a destination that may be outside of the loaded region.
+	 *
+	 * @param graph     the graph to plan the route over
+	 * @param locatable the destination tile
+	 * @return the generated {@link WorldPath}
+	 */
+	public WorldPath findPath(final PortalGraph graph, final Locatable locatable) {
+		if (graph == null || locatable == null) {
+			throw new IllegalArgumentException();
+		}
+		return new WorldPath(ctx, graph, locatable);
+	}
+
 	public Tile destination() {
 		final Client client = ctx.client();
 		if (client == null) {
@@ -180,7 +204,218 @@ public class Movement extends ClientAccessor {
 		return distance(ctx.players.local(), l);
 	}
 
+	/**
+	 * Computes the path distance from the start to every one of the targets using a single search of the
+	 * loaded region, rather than one search per target.
+	 * Targets standing on blocked tiles (such as objects) are measured to the closest reachable tile
+	 * surrounding them, plus the step onto the target.
+	 * Unlike {@link #distance(Locatable, Locatable)}, which counts the tiles of a path including the start,
+	 * distances are counted in steps, so that a target on the start tile is {@code 0} away.
+	 *
+	 * @param start   the start position
+	 * @param targets the positions to measure
+	 * @return the path distances in steps, indexed by target, where {@code -1} marks an unreachable target
+	 */
+	public int[] distances(final Locatable start, final Locatable... targets) {
+		final int[] d = new int[targets.length];
+		Arrays.fill(d, -1);
+		final Tile b = ctx.game.mapOffset();
+		final Tile t1 = start != null ? start.tile() : null;
+		if (b == null || b == Tile.NIL || t1 == null || t1 == Tile.NIL || t1.floor() != b.floor()) {
+			return d;
+		}
+		final ConnectivityMap map = connectivity(b.floor());
+		final int area = map != null ? map.label(t1.x() - b.x(), t1.y() - b.y()) : 0;
+		if (area == 0) {
+			return d;
+		}
+		final LocalPath.Graph graph = LocalPath.getGraph(ctx);
+		final LocalPath.Node nodeStart;
+		if (graph == null || (nodeStart = graph.getNode(t1.x() - b.x(), t1.y() - b.y())) == null) {
+			return d;
+		}
+
+		final LocalPath.Node[][] goals = new LocalPath.Node[targets.length][];
+		final boolean[] adjacent = new boolean[targets.length];
+		final List<LocalPath.Node> flood = new ArrayList<LocalPath.Node>(targets.length);
+		for (int i = 0; i < targets.length; i++) {
+			final Tile t2 = targets[i] != null ? targets[i].tile() : null;
+			if (t2 == null || t2 == Tile.NIL || t2.floor() != b.floor()) {
+				continue;
+			}
+			final int x = t2.x() - b.x(), y = t2.y() - b.y();
+			final LocalPath.Node n = graph.getNode(x, y);
+			if (n == null) {
+				continue;
+			}
+			if (!graph.blocked(n)) {
+				if (map.label(x, y) == area) {
+					goals[i] = new LocalPath.Node[]{n};
+				}
+			} else {
+				final List<LocalPath.Node> around = new ArrayList<LocalPath.Node>(8);
+				for (int dx = -1; dx <= 1; dx++) {
+					for (int dy = -1; dy <= 1; dy++) {
+						final LocalPath.Node a = graph.getNode(x + dx, y + dy);
+						if (a != null && map.label(x + dx, y + dy) == area) {
+							around.add(a);
+						}
+					}
+				}
+				goals[i] = around.toArray(new LocalPath.Node[around.size()]);
+				adjacent[i] = true;
+			}
+			if (goals[i] != null) {
+				flood.addAll(Arrays.asList(goals[i]));
+			}
+		}
+
+		LocalPath.dijkstra(graph, nodeStart, flood.toArray(new LocalPath.Node[flood.size()]));
+		for (int i = 0; i < goals.length; i++) {
+			if (goals[i] == null) {
+				continue;
+			}
+			for (final LocalPath.Node n : goals[i]) {
+				final int l = LocalPath.length(n) - 1;
+				if (l >= 0 && (d[i] == -1 || l < d[i])) {
+					d[i] = l;
+				}
+			}
+			if (adjacent[i] && d[i] != -1) {
+				d[i]++;
+			}
+		}
+		return d;
+	}
+
+	/**
+	 * Records the collision flags of the current floor of the loaded region.
+	 *
+	 * @return the snapshot; or {@code null} if the collision flags are unavailable
+	 */
+	public CollisionSnapshot collisionSnapshot() {
+		final Client client = ctx.client();
+		if (client == null) {
+			return null;
+		}
+		final int floor = client.getFloor();
+		final CollisionMap[] maps = client.getCollisionMaps();
+		final CollisionMap map;
+		final int[][] flags;
+		if (maps == null || floor < 0 || floor >= maps.length || (map = maps[floor]) == null ||
+				(flags = map.getFlags()) == null) {
+			return null;
+		}
+		return new CollisionSnapshot(new Tile(client.getOffsetX() + map.getOffsetX(),
+				client.getOffsetY() + map.getOffsetY(), floor), flags);
+	}
+
+	/**
+	 * Labels the connected areas of the collision map of a floor.
+	 * The labelling is computed once and reused until the collision map changes, which is checked once per game cycle.
+	 *
+	 * @param floor the floor
+	 * @return the labelled snapshot of the collision map; or {@code null} if it is unavailable
+	 */
+	ConnectivityMap connectivity(final int floor) {
+		final Client client = ctx.client();
+		if (client == null) {
+			return null;
+		}
+		final CollisionMap[] maps = client.getCollisionMaps();
+		final CollisionMap map;
+		final int[][] flags;
+		if (maps == null || floor < 0 || floor >= maps.length || (map = maps[floor]) == null ||
+				(flags = map.getFlags()) == null) {
+			return null;
+		}
+		final int offX = map.getOffsetX(), offY = map.getOffsetY(), cycle = ctx.clock.cycle();
+		if (floor >= connectivity.length) {
+			return new ConnectivityMap(flags, offX, offY, cycle);
+		}
+		synchronized (connectivity) {
+			ConnectivityMap c = connectivity[floor];
+			if (c == null || !c.matches(flags, offX, offY, cycle)) {
+				c = new ConnectivityMap(flags, offX, offY, cycle);
+				connectivity[floor] = c;
+			}
+			return c;
+		}
+	}
+
+	/**
+	 * Retrieves the object cost layer of a floor for path searches.
+	 * The layer is built once per region and then only re-reads tiles whose collision flags change.
+	 *
+	 * @param floor the floor
+	 * @param flags the collision flags of the floor
+	 * @return the cost layer
+	 */
+	LocalPath.CostMap costMap(final int floor, final int[][] flags) {
+		final Client client = ctx.client();
+		final int baseX = client.getOffsetX(), baseY = client.getOffsetY();
+		LocalPath.CostMap c;
+		final boolean full;
+		synchronized (costs) {
+			c = floor >= 0 && floor < costs.length ? costs[floor] : null;
+			full = c == null || !c.matches(flags, floor, baseX, baseY);
+			if (full) {
+				c = new LocalPath.CostMap(flags, floor, baseX, baseY);
+				if (floor >= 0 && floor < costs.length) {
+					costs[floor] = c;
+				}
+			}
+		}
+		c.update(client, full);
+		return c;
+	}
+
 	public boolean reachable(final Locatable l1, final Locatable l2) {
-		return distance(l1, l2) > 0;
+		final Tile b = ctx.game.mapOffset();
+		final Tile t1, t2;
+		if (b == null || b == Tile.NIL ||
+				l1 == null || (t1 = l1.tile()) == null || t1 == Tile.NIL ||
+				l2 == null || (t2 = l2.tile()) == null || t2 == Tile.NIL ||
+				t1.floor() != t2.floor() || t1.floor() != b.floor()) {
+			return false;
+		}
+		final ConnectivityMap map = connectivity(b.floor());
+		return map != null && map.connected(t1.x() - b.x(), t1.y() - b.y(), t2.x() - b.x(), t2.y() - b.y());
+	}
+
+	/**
+	 * Determines if any tile of the area is reachable from the start position.
+	 *
+	 * @param l    the start position
+	 * @param area the area
+	 * @return <tt>true</tt> if a tile within the area is reachable; otherwise <tt>false</tt>
+	 */
+	public boolean reachable(final Locatable l, final Area area) {
+		final Tile b = ctx.game.mapOffset();
+		final Tile t;
+		if (b == null || b == Tile.NIL || area == null ||
+				l == null || (t = l.tile()) == null || t == Tile.NIL || t.floor() != b.floor()) {
+			return false;
+		}
+		final ConnectivityMap map = connectivity(b.floor());
+		final int label = map != null ? map.label(t.x() - b.x(), t.y() - b.y()) : 0;
+		if (label == 0) {
+			return false;
+		}
+		final boolean[] goals = map.oneWay(label) ? new boolean[map.width * map.height] : null;
+		boolean found = false;
+		final Rectangle r = area.getPolygon().getBounds();
+		for (int x = r.x; x < r.x + r.width; x++) {
+			for (int y = r.y; y < r.y + r.height; y++) {
+				if (map.label(x - b.x(), y - b.y()) == label && area.contains(new Tile(x, y, t.floor()))) {
+					if (goals == null) {
+						return true;
+					}
+					goals[map.tile(x - b.x(), y - b.y())] = true;
+					found = true;
+				}
+			}
+		}
+		return found && map.reaches(t.x() - b.x(), t.y() - b.y(), goals);
 	}
 }
@@ -34,7 +34,7 @@ public class Npc extends Actor implements Identifiable, Actionable {
 	Npc(final ClientContext ctx, final org.powerbot.bot.rt4.client.Npc npc) {
 		super(ctx);
 		this.npc = npc;
-		hash = System.identityHashCode(npc);
+		hash = System.identityHashCode(npc != null ? npc.obj.get() : null);
 	}
 
 	@Override
@@ -44,8 +44,7 @@ public class Npc extends Actor implements Identifiable, Actionable {
 
 	@Override
 	public String name() {
-		final CacheNpcConfig c = CacheNpcConfig.load(Bot.CACHE_WORKER, id());
-		return c != null ? StringUtils.stripHtml(c.name) : "";
+		return (String) memo(MEMO_NAME);
 	}
 
 	@Override
@@ -56,6 +55,27 @@ public class Npc extends Actor implements Identifiable, Actionable {
 
 	@Override
 	public int id() {
+		return (Integer) memo(MEMO_ID);
+	}
+
+	@Override
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_NAME:
+			return deriveName();
+		case MEMO_ID:
+			return deriveId();
+		default:
+			return super.derive(slot);
+		}
+	}
+
+	private String deriveName() {
+		final CacheNpcConfig c = CacheNpcConfig.load(Bot.CACHE_WORKER, id());
+		return c != null ? StringUtils.stripHtml(c.name) : "";
+	}
+
+	private int deriveId() {
 		final Client client = ctx.client();
 		if (client == null) {
 			return -1;
@@ -97,13 +117,7 @@ public class Npc extends Actor implements Identifiable, Actionable {
 		if (client == null || npc == null || npc.isNull()) {
 			return false;
 		}
-		final org.powerbot.bot.rt4.client.Npc[] arr = client.getNpcs();
-		for (final org.powerbot.bot.rt4.client.Npc a : arr) {
-			if (npc.equals(a)) {
-				return true;
-			}
-		}
-		return false;
+		return client.getNpcArray().indexOf(npc) != -1;
 	}
 
 	@Override
@@ -3,6 +3,7 @@ package org.powerbot.script.rt4;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt4.client.Client;
 
 /**
@@ -21,14 +22,14 @@ public class Npcs extends BasicQuery<Npc> {
 			return r;
 		}
 		final int[] indices = client.getNpcIndices();
-		final org.powerbot.bot.rt4.client.Npc[] npcs = client.getNpcs();
-		if (indices == null || npcs == null) {
+		if (indices == null) {
 			return r;
 		}
+		final ProxyArray<org.powerbot.bot.rt4.client.Npc> npcs = client.getNpcArray();
 		for (int index = 0; index < Math.min(client.getNpcCount(), indices.length); ++index) {
-			final org.powerbot.bot.rt4.client.Npc n = npcs[indices[index]];
-			if (!n.isNull()) {
-				r.add(new Npc(ctx, n));
+			final int k = indices[index];
+			if (!npcs.isNull(k)) {
+				r.add(new Npc(ctx, npcs.get(k)));
 			}
 		}
 		return r;
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.rt4.client.Client;
 import org.powerbot.bot.rt4.client.Tile;
@@ -42,12 +43,10 @@ public class Objects extends BasicQuery<GameObject> {
 		if (client == null) {
 			return r;
 		}
-		final Tile[][][] tiles = client.getLandscape().getTiles();
-		final int floor = client.getFloor();
-		if (floor < 0 || floor >= tiles.length) {
+		final ProxyArray<ProxyArray<Tile>> rows = client.getLandscape().getTileArray(client.getFloor());
+		if (rows.length() == 0) {
 			return r;
 		}
-		final Tile[][] rows = tiles[floor];
 		final HashSet<GameObject> set = new HashSet<GameObject>();
 		int start_x = 0, end_x = Integer.MAX_VALUE, start_y = 0, end_y = Integer.MAX_VALUE;
 		if (radius >= 0) {
@@ -60,21 +59,29 @@ public class Objects extends BasicQuery<GameObject> {
 				end_y = t.y() + radius;
 			}
 		}
-		for (int x = Math.max(0, start_x); x <= Math.min(end_x, rows.length - 1); x++) {
-			final Tile[] col = rows[x];
-			for (int y = Math.max(0, start_y); y <= Math.min(end_y, col.length - 1); y++) {
-				final Tile tile = col[y];
-				if (tile.isNull()) {
+		for (int x = Math.max(0, start_x); x <= Math.min(end_x, rows.length() - 1); x++) {
+			final ProxyArray<Tile> col = rows.get(x);
+			for (int y = Math.max(0, start_y); y <= Math.min(end_y, col.length() - 1); y++) {
+				if (col.isNull(y)) {
 					continue;
 				}
-				final int len = Math.max(0, tile.getGameObjectLength());
-				final ReflectProxy[] fo = {tile.getBoundaryObject(), tile.getFloorObject(), tile.getWallObject()};
+				final Tile tile = col.get(y);
+				final ProxyArray<org.powerbot.bot.rt4.client.GameObject> interactive = tile.getGameObjectArray();
+				final int len = Math.min(Math.max(0, tile.getGameObjectLength()), interactive.length());
 				final ReflectProxy[] arr = new ReflectProxy[3 + len];
-				System.arraycopy(fo, 0, arr, 0, 3);
-				final org.powerbot.bot.rt4.client.GameObject[] interactive = tile.getGameObjects();
-				System.arraycopy(interactive, 0, arr, 3, Math.min(len, interactive.length));
+				arr[0] = tile.getBoundaryObject();
+				arr[1] = tile.getFloorObject();
+				arr[2] = tile.getWallObject();
+				for (int i = 0; i < len; i++) {
+					if (!interactive.isNull(i)) {
+						arr[3 + i] = interactive.get(i);
+					}
+				}
 
 				for (final ReflectProxy p : arr) {
+					if (p == null) {
+						continue;
+					}
 					final BasicObject o = new BasicObject(p);
 					if (!o.object.isNull()) {
 						final int t = o.getMeta() & 0x3f;
@@ -24,8 +24,7 @@ public class Player extends Actor {
 
 	@Override
 	public String name() {
-		final String str = player != null ? player.getName() : "";
-		return str != null ? str : "";
+		return (String) memo(MEMO_NAME);
 	}
 
 	@Override
@@ -50,19 +49,28 @@ public class Player extends Actor {
 		return arr;
 	}
 
+	@Override
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_NAME:
+			return deriveName();
+		default:
+			return super.derive(slot);
+		}
+	}
+
+	private String deriveName() {
+		final String str = player != null ? player.getName() : "";
+		return str != null ? str : "";
+	}
+
 	@Override
 	public boolean valid() {
 		final Client client = ctx.client();
 		if (client == null || player == null) {
 			return false;
 		}
-		final org.powerbot.bot.rt4.client.Player[] arr = client.getPlayers();
-		for (final org.powerbot.bot.rt4.client.Player a : arr) {
-			if (player.equals(a)) {
-				return true;
-			}
-		}
-		return false;
+		return client.getPlayerArray().indexOf(player) != -1;
 	}
 
 	@Override
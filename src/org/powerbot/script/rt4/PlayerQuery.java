@@ -7,6 +7,7 @@ import org.powerbot.script.Area;
 import org.powerbot.script.Filter;
 import org.powerbot.script.Locatable;
 import org.powerbot.script.Nameable;
+import org.powerbot.script.SpatialIndex;
 import org.powerbot.script.Viewable;
 
 /**
@@ -76,6 +77,15 @@ public abstract class PlayerQuery<K extends Locatable & Nameable & Viewable> ext
 		return sort(new Locatable.NearestTo(locatable));
 	}
 
+	/**
+	 * Indexes the current results by location, for repeated radius, area and nearest lookups.
+	 *
+	 * @return a spatial index of the current results
+	 */
+	public SpatialIndex<K> index() {
+		return new SpatialIndex<K>(this);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
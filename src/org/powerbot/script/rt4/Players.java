@@ -3,6 +3,7 @@ package org.powerbot.script.rt4;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt4.client.Client;
 
 /**
@@ -21,15 +22,14 @@ public class Players extends PlayerQuery<Player> {
 			return r;
 		}
 		final int[] indices = client.getPlayerIndices();
-		final org.powerbot.bot.rt4.client.Player[] players = client.getPlayers();
-		if (indices == null || players == null) {
+		if (indices == null) {
 			return r;
 		}
+		final ProxyArray<org.powerbot.bot.rt4.client.Player> players = client.getPlayerArray();
 		for (int index = 0; index < Math.min(client.getPlayerCount(), indices.length); index++) {
 			final int k = indices[index];
-			final org.powerbot.bot.rt4.client.Player p = players[k];
-			if (p.obj.get() != null) {
-				r.add(new Player(ctx, p));
+			if (!players.isNull(k)) {
+				r.add(new Player(ctx, players.get(k)));
 			}
 		}
 		return r;
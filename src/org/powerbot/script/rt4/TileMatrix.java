@@ -108,16 +108,7 @@ public final class TileMatrix extends Interactive implements InteractiveEntity {
 	 * <code>false</code>.
 	 */
 	public boolean onMap() {
-		final boolean r = ctx.game.resizable();
-		final Point centre = ctx.game.mapComponent().centerPoint();
-		final Point p = mapPoint();
-
-		final double d = Math.pow(centre.x - p.x, 2) + Math.pow(centre.y - p.y, 2);
-		if (r) {
-			return d < Math.pow(68, 2);
-		}
-		return p.y < 70 ? d < Math.pow(68, 2) : p.y < 110 ? d < Math.pow(64, 2) : p.y < 135 ? d < Math.pow(52, 2) :
-				Math.pow(centre.x - p.x, 2) + Math.pow(centre.y + 54 - p.y, 2) < Math.pow(16, 2);
+		return new Game.MinimapProjection(ctx.game).onMap(tile);
 	}
 
 	/**
@@ -61,12 +61,7 @@ public class Widget extends ClientAccessor implements Identifiable, Validatable
 
 	public int componentCount() {
 		final Client client = ctx.client();
-		final org.powerbot.bot.rt4.client.Widget[][] arr = client != null ? client.getWidgets() : null;
-		if (arr != null && index < arr.length) {
-			final org.powerbot.bot.rt4.client.Widget[] comps = arr[index];
-			return comps != null ? comps.length : 0;
-		}
-		return 0;
+		return client != null && index >= 0 ? client.getWidgetArray().get(index).length() : 0;
 	}
 
 	/**
@@ -92,7 +87,6 @@ public class Widget extends ClientAccessor implements Identifiable, Validatable
 			return false;
 		}
 		final Client client = ctx.client();
-		final org.powerbot.bot.rt4.client.Widget[][] arr = client != null ? client.getWidgets() : null;
-		return arr != null && index > -1 && index < arr.length && arr[index] != null && arr[index].length > 0;
+		return client != null && index > -1 && client.getWidgetArray().get(index).length() > 0;
 	}
 }
@@ -56,8 +56,7 @@ public class Widgets extends IdQuery<Widget> {
 	@Override
 	protected List<Widget> get() {
 		final Client client = ctx.client();
-		final org.powerbot.bot.rt4.client.Widget[][] a = client != null ? client.getWidgets() : null;
-		final int len = a != null ? a.length : 0;
+		final int len = client != null ? client.getWidgetArray().length() : 0;
 		if (len <= 0) {
 			return new ArrayList<Widget>(0);
 		}
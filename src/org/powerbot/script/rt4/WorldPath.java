@@ -0,0 +1,89 @@
+package org.powerbot.script.rt4;
+
+import java.util.EnumSet;
+
+import org.powerbot.script.Locatable;
+import org.powerbot.script.PortalGraph;
+import org.powerbot.script.Tile;
+
+/**
+ * WorldPath
+ * A path planned over a {@link PortalGraph}, which walks local paths to the furthest reachable waypoint
+ * as regions load.
+ * Transports (such as stairs) are walked to, but using them is left to the script.
+ */
+public class WorldPath extends Path {
+	private final PortalGraph graph;
+	private final Locatable destination;
+	private Tile[] waypoints;
+	private Tile tile, target;
+	private LocalPath localPath;
+
+	WorldPath(final ClientContext ctx, final PortalGraph graph, final Locatable destination) {
+		super(ctx);
+		this.graph = graph;
+		this.destination = destination;
+	}
+
+	@Override
+	public boolean traverse(final EnumSet<TraversalOption> options) {
+		return valid() && localPath.traverse(options);
+	}
+
+	@Override
+	public Tile next() {
+		return valid() ? localPath.next() : Tile.NIL;
+	}
+
+	@Override
+	public Tile start() {
+		return ctx.players.local().tile();
+	}
+
+	@Override
+	public Tile end() {
+		return destination.tile();
+	}
+
+	@Override
+	public boolean valid() {
+		final Tile end = destination.tile();
+		if (end == null || end == Tile.NIL) {
+			return false;
+		}
+		final Tile start = ctx.players.local().tile();
+		if (!end.equals(tile) || waypoints == null) {
+			tile = end;
+			waypoints = graph.findPath(start, end);
+		}
+		final Tile next = waypoint(start);
+		if (next == Tile.NIL) {
+			return false;
+		}
+		if (!next.equals(target) || localPath == null) {
+			target = next;
+			localPath = new LocalPath(ctx, next);
+		}
+		return localPath.valid();
+	}
+
+	/**
+	 * Returns the planned waypoints.
+	 *
+	 * @return a copy of the waypoints; or an empty array if no route has been planned
+	 */
+	public Tile[] waypoints() {
+		final Tile[] w = waypoints;
+		return w != null ? w.clone() : new Tile[0];
+	}
+
+	private Tile waypoint(final Tile start) {
+		for (int i = waypoints.length - 1; i >= 0; i--) {
+			final Tile t = waypoints[i];
+			if (t.floor() == start.floor() && t.matrix(ctx).valid() && ctx.movement.reachable(start, t)) {
+				return t;
+			}
+		}
+		return Tile.NIL;
+	}
+}
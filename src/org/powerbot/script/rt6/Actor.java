@@ -2,6 +2,7 @@ package org.powerbot.script.rt6;
 
 import java.awt.Point;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.Reflector;
 import org.powerbot.bot.rt6.HashTable;
 import org.powerbot.bot.rt6.client.Client;
@@ -13,6 +14,7 @@ import org.powerbot.bot.rt6.client.Npc;
 import org.powerbot.bot.rt6.client.NpcNode;
 import org.powerbot.bot.rt6.client.Player;
 import org.powerbot.bot.rt6.client.RelativePosition;
+import org.powerbot.script.CycleMemo;
 import org.powerbot.script.Filter;
 import org.powerbot.script.InteractiveEntity;
 import org.powerbot.script.Nameable;
@@ -22,6 +24,12 @@ import org.powerbot.script.Tile;
  * Actor
  */
 public abstract class Actor extends Interactive implements InteractiveEntity, Nameable {
+	static final int MEMO_TILE = 0;
+	static final int MEMO_HEALTH = 1;
+	static final int MEMO_NAME = 2;
+	static final int MEMO_ID = 3;
+	private CycleMemo memo;
+
 	public Actor(final ClientContext ctx) {
 		super(ctx);
 		bounds(-192, 192, -768, 0, -192, 192);
@@ -136,8 +144,8 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 			return nil;
 		} else {
 			final int pos = index - 32768;
-			final Player[] arr = client.getPlayers();
-			return pos >= 0 && pos < arr.length ? new org.powerbot.script.rt6.Player(ctx, arr[pos]) : nil;
+			final ProxyArray<Player> arr = client.getPlayerArray();
+			return pos >= 0 && pos < arr.length() ? new org.powerbot.script.rt6.Player(ctx, arr.get(pos)) : nil;
 		}
 	}
 
@@ -175,14 +183,7 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 	}
 
 	public int healthPercent() {
-		if (!valid()) {
-			return -1;
-		}
-		final CombatStatusData[] data = getBarData();
-		if (data == null || data[1] == null) {
-			return 100;
-		}
-		return toPercent(data[1].getHealthRatio());
+		return (Integer) memo(MEMO_HEALTH);
 	}
 
 	public boolean inCombat() {
@@ -200,12 +201,7 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 
 	@Override
 	public Tile tile() {
-		final org.powerbot.bot.rt6.client.Actor character = getAccessor();
-		final RelativeLocation position = relative();
-		if (character.isNull() || position == RelativeLocation.NIL) {
-			return Tile.NIL;
-		}
-		return ctx.game.mapOffset().derive((int) position.x() >> 9, (int) position.z() >> 9, position.floor());
+		return (Tile) memo(MEMO_TILE);
 	}
 
 	public RelativeLocation relative() {
@@ -308,4 +304,60 @@ public abstract class Actor extends Interactive implements InteractiveEntity, Na
 		final org.powerbot.bot.rt6.client.Actor i;
 		return (i = getAccessor()) != null && i.equals(c.getAccessor());
 	}
+
+	/**
+	 * Returns a value derived during the current game cycle, which is memoized if the {@code memo.cycle} property
+	 * was enabled when this actor first derived a value.
+	 *
+	 * @param slot the index of the value
+	 * @return the value
+	 */
+	final Object memo(final int slot) {
+		if (memo == null) {
+			memo = ctx.clock.memoize() ? ctx.clock.memo(4, new CycleMemo.Source() {
+				@Override
+				public Object derive(final int slot) {
+					return Actor.this.derive(slot);
+				}
+			}) : CycleMemo.NONE;
+		}
+		return memo != CycleMemo.NONE ? memo.get(slot) : derive(slot);
+	}
+
+	/**
+	 * Derives a memoized value from the game state.
+	 *
+	 * @param slot the index of the value
+	 * @return the value; or {@code null} if the slot is unknown
+	 */
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_HEALTH:
+			return deriveHealthPercent();
+		case MEMO_TILE:
+			return deriveTile();
+		default:
+			return null;
+		}
+	}
+
+	private int deriveHealthPercent() {
+		if (!valid()) {
+			return -1;
+		}
+		final CombatStatusData[] data = getBarData();
+		if (data == null || data[1] == null) {
+			return 100;
+		}
+		return toPercent(data[1].getHealthRatio());
+	}
+
+	private Tile deriveTile() {
+		final org.powerbot.bot.rt6.client.Actor character = getAccessor();
+		final RelativeLocation position = relative();
+		if (character.isNull() || position == RelativeLocation.NIL) {
+			return Tile.NIL;
+		}
+		return ctx.game.mapOffset().derive((int) position.x() >> 9, (int) position.z() >> 9, position.floor());
+	}
 }
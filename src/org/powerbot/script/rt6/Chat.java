@@ -1,29 +1,24 @@
 package org.powerbot.script.rt6;
 
-import java.awt.Graphics;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
-import org.powerbot.bot.AbstractBot;
-import org.powerbot.bot.EventDispatcher;
 import org.powerbot.bot.rt6.client.Client;
 import org.powerbot.bot.rt6.client.MessageEntry;
 import org.powerbot.bot.rt6.client.NodeSub;
 import org.powerbot.bot.rt6.client.NodeSubQueue;
 import org.powerbot.script.MessageEvent;
-import org.powerbot.script.PaintListener;
+import org.powerbot.script.MessagePump;
 
 /**
  * Chat
  */
 public class Chat extends TextQuery<ChatOption> {
-	private final AtomicBoolean registered;
+	private MessagePump pump = null;
 
 	public Chat(final ClientContext factory) {
 		super(factory);
-		registered = new AtomicBoolean(false);
 	}
 
 	/**
@@ -107,35 +102,63 @@ public class Chat extends TextQuery<ChatOption> {
 		return null;
 	}
 
+	/**
+	 * Starts dispatching a {@link MessageEvent} for every new chat message.
+	 */
 	public void register() {
-		if (!registered.compareAndSet(false, true)) {
-			return;
+		pump().start();
+	}
+
+	/**
+	 * Stops dispatching chat messages.
+	 */
+	public void unregister() {
+		pump().stop();
+	}
+
+	/**
+	 * Returns the pump which reads and dispatches chat messages.
+	 *
+	 * @return the message pump
+	 */
+	public synchronized MessagePump pump() {
+		if (pump == null) {
+			pump = new Pump();
 		}
-		final EventDispatcher e = ((AbstractBot) ctx.bot()).dispatcher;
-		e.add(new PaintListener() {
-			private final AtomicReference<NodeSub> previous = new AtomicReference<NodeSub>(null);
-
-			@Override
-			public void repaint(final Graphics graphics) {
-				final Client client = ctx.client();
-				if (client == null) {
-					return;
-				}
-
-				final NodeSubQueue q = client.getLoggerEntries();
-				final NodeSub s = q.getSentinel();
-				NodeSub c = s.getNextSub();
-				if (previous.get() != null && !previous.get().isNull()) {
-					final NodeSub n = previous.get().getNextSub();
-					c = n.isNull() ? c : n;
-				}
-				while (!s.equals(c)) {
-					final MessageEntry m = new MessageEntry(c.reflector, c);
-					e.dispatch(new MessageEvent(m));
-					previous.set(c);
-					c = c.getNextSub();
-				}
+		return pump;
+	}
+
+	private final class Pump extends MessagePump {
+		private final AtomicReference<NodeSub> previous = new AtomicReference<NodeSub>(null);
+
+		private Pump() {
+			super(ctx, ctx.clock);
+		}
+
+		@Override
+		protected void read(final List<MessageEvent> messages) {
+			final Client client = ctx.client();
+			if (client == null) {
+				return;
 			}
-		});
+
+			final NodeSubQueue q = client.getLoggerEntries();
+			final NodeSub s = q.getSentinel();
+			NodeSub c = s.getNextSub();
+			if (previous.get() != null && !previous.get().isNull()) {
+				final NodeSub n = previous.get().getNextSub();
+				c = n.isNull() ? c : n;
+			}
+			NodeSub last = null;
+			while (!s.equals(c)) {
+				final MessageEntry m = new MessageEntry(c.reflector, c);
+				messages.add(new MessageEvent(m));
+				last = c;
+				c = c.getNextSub();
+			}
+			if (last != null) {
+				previous.set(last);
+			}
+		}
 	}
 }
@@ -22,7 +22,9 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 	public final Bank bank;
 	public final Camera camera;
 	public final Chat chat;
+	public final GameClock clock;
 	public final DepositBox depositBox;
+	public final Entities entities;
 	public final Equipment equipment;
 	public final Game game;
 	public final GroundItems groundItems;
@@ -63,7 +65,9 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 		bank = new Bank(this);
 		camera = new Camera(this);
 		chat = new Chat(this);
+		clock = new GameClock(this);
 		depositBox = new DepositBox(this);
+		entities = new Entities(this);
 		equipment = new Equipment(this);
 		game = new Game(this);
 		groundItems = new GroundItems(this);
@@ -98,7 +102,9 @@ public class ClientContext extends org.powerbot.script.ClientContext<Client> {
 		bank = ctx.bank;
 		camera = ctx.camera;
 		chat = ctx.chat;
+		clock = ctx.clock;
 		depositBox = ctx.depositBox;
+		entities = ctx.entities;
 		equipment = ctx.equipment;
 		game = ctx.game;
 		groundItems = ctx.groundItems;
@@ -0,0 +1,219 @@
+package org.powerbot.script.rt6;
+
+/**
+ * ConnectivityMap
+ * A snapshot of a {@link CollisionMap} where every walkable tile is labelled with the area of tiles joined to it
+ * by steps in either direction.
+ */
+final class ConnectivityMap {
+	static final int[] DIR_X = {0, 1, 0, -1, -1, 1, 1, -1};
+	static final int[] DIR_Y = {1, 0, -1, 0, 1, 1, -1, -1};
+	private static final int[] DIR_OPPOSITE = {2, 3, 0, 1, 6, 7, 4, 5};
+	private static final int NORTH = CollisionFlag.NORTH.getType(), EAST = CollisionFlag.EAST.getType(),
+			SOUTH = CollisionFlag.SOUTH.getType(), WEST = CollisionFlag.WEST.getType();
+	private static final int BLOCKED = CollisionFlag.OBJECT_BLOCK.getType() |
+			CollisionFlag.DECORATION_BLOCK.getType() | CollisionFlag.DEAD_BLOCK.getType();
+	private static final int[] DIR_WALL = {
+			NORTH, EAST, SOUTH, WEST,
+			CollisionFlag.NORTHWEST.getType() | NORTH | WEST,
+			CollisionFlag.NORTHEAST.getType() | NORTH | EAST,
+			CollisionFlag.SOUTHEAST.getType() | SOUTH | EAST,
+			CollisionFlag.SOUTHWEST.getType() | SOUTH | WEST
+	};
+	final int width, height;
+	private final CollisionMap map;
+	private final int[] flags, labels;
+	private final boolean[] oneWay;
+	private int cycle;
+
+	ConnectivityMap(final CollisionMap map, final int cycle) {
+		this.map = map;
+		this.cycle = cycle;
+		width = Math.max(0, map.width() - 2);
+		height = Math.max(0, map.height() - 2);
+		flags = new int[width * height];
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				flags[x * height + y] = map.flagAt(x, y).getType();
+			}
+		}
+		labels = new int[flags.length];
+		oneWay = new boolean[flags.length + 1];
+		label();
+	}
+
+	/**
+	 * Determines if this snapshot still represents the provided collision map.
+	 * The flags are only compared once per game cycle.
+	 *
+	 * @param map   the collision map to compare against
+	 * @param cycle the current game cycle; or {@code -1} if unknown
+	 * @return <tt>true</tt> if the map and every flag is unchanged; otherwise <tt>false</tt>
+	 */
+	boolean matches(final CollisionMap map, final int cycle) {
+		if (map != this.map) {
+			return false;
+		}
+		if (cycle != -1 && cycle == this.cycle) {
+			return true;
+		}
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				if (map.flagAt(x, y).getType() != flags[x * height + y]) {
+					return false;
+				}
+			}
+		}
+		this.cycle = cycle;
+		return true;
+	}
+
+	int index(final int x, final int y) {
+		return x < 0 || y < 0 || x >= width || y >= height ? -1 : x * height + y;
+	}
+
+	boolean blocked(final int index) {
+		return (flags[index] & BLOCKED) != 0;
+	}
+
+	/**
+	 * Determines the connected area of a tile.
+	 *
+	 * @param x the local x
+	 * @param y the local y
+	 * @return the area label; or {@code 0} if the tile is blocked or out of range
+	 */
+	int label(final int x, final int y) {
+		final int i = tile(x, y);
+		return i != -1 ? labels[i] : 0;
+	}
+
+	/**
+	 * Determines the index of a tile.
+	 *
+	 * @param x the local x
+	 * @param y the local y
+	 * @return the index; or {@code -1} if the tile is out of range
+	 */
+	int tile(final int x, final int y) {
+		return index(x, y);
+	}
+
+	/**
+	 * Determines if an area contains a step which can only be taken one way, such that two of its tiles sharing the
+	 * label does not imply that either can be reached from the other.
+	 *
+	 * @param label the area label
+	 * @return <tt>true</tt> if the area has a one way step; otherwise <tt>false</tt>
+	 */
+	boolean oneWay(final int label) {
+		return oneWay[label];
+	}
+
+	boolean connected(final int x1, final int y1, final int x2, final int y2) {
+		final int l = label(x1, y1);
+		if (l == 0 || l != label(x2, y2)) {
+			return false;
+		}
+		if (!oneWay[l]) {
+			return true;
+		}
+		final boolean[] goals = new boolean[flags.length];
+		goals[tile(x2, y2)] = true;
+		return reaches(x1, y1, goals);
+	}
+
+	/**
+	 * Searches the steps from a tile for any of the goal tiles.
+	 *
+	 * @param x     the x of the tile to search from, as given to {@link #label(int, int)}
+	 * @param y     the y of the tile to search from, as given to {@link #label(int, int)}
+	 * @param goals the goal tiles, indexed by {@link #tile(int, int)}
+	 * @return <tt>true</tt> if a goal tile is reachable; otherwise <tt>false</tt>
+	 */
+	boolean reaches(final int x, final int y, final boolean[] goals) {
+		final int from = tile(x, y);
+		if (from == -1 || blocked(from)) {
+			return false;
+		}
+		final boolean[] seen = new boolean[flags.length];
+		final int[] queue = new int[flags.length];
+		int head = 0, tail = 0;
+		seen[from] = true;
+		queue[tail++] = from;
+		while (head < tail) {
+			final int c = queue[head++];
+			if (goals[c]) {
+				return true;
+			}
+			for (int dir = 0; dir < 8; dir++) {
+				final int n = step(c, dir);
+				if (n != -1 && !seen[n]) {
+					seen[n] = true;
+					queue[tail++] = n;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determines the tile reached by stepping from a tile in the given direction.
+	 *
+	 * @param index the index of the tile to step from
+	 * @param dir   the direction, indexing {@link #DIR_X} and {@link #DIR_Y}
+	 * @return the index of the tile stepped to; or {@code -1} if the step is not walkable
+	 */
+	int step(final int index, final int dir) {
+		final int x = index / height, y = index % height;
+		final int dx = DIR_X[dir], dy = DIR_Y[dir];
+		final int n = index(x + dx, y + dy);
+		if (n == -1 || (flags[index] & DIR_WALL[dir]) != 0 || (flags[n] & BLOCKED) != 0) {
+			return -1;
+		}
+		if (dx != 0 && dy != 0 &&
+				((flags[(x + dx) * height + y] & (BLOCKED | (dy > 0 ? NORTH : SOUTH))) != 0 ||
+						(flags[x * height + y + dy] & (BLOCKED | (dx > 0 ? EAST : WEST))) != 0)) {
+			return -1;
+		}
+		return n;
+	}
+
+	/**
+	 * Labels the areas of tiles joined by steps in either direction, so that tiles with different labels can never
+	 * reach one another, and marks the areas joined by any step which cannot be taken back.
+	 */
+	private void label() {
+		final int[] queue = new int[flags.length];
+		int next = 0;
+		for (int i = 0; i < flags.length; i++) {
+			if (labels[i] != 0 || blocked(i)) {
+				continue;
+			}
+			labels[i] = ++next;
+			int head = 0, tail = 0;
+			queue[tail++] = i;
+			while (head < tail) {
+				final int c = queue[head++];
+				final int x = c / height, y = c % height;
+				for (int dir = 0; dir < 8; dir++) {
+					final int n = index(x + DIR_X[dir], y + DIR_Y[dir]);
+					if (n == -1 || blocked(n)) {
+						continue;
+					}
+					final boolean forward = step(c, dir) != -1, back = step(n, DIR_OPPOSITE[dir]) != -1;
+					if (!forward && !back) {
+						continue;
+					}
+					if (forward != back) {
+						oneWay[next] = true;
+					}
+					if (labels[n] == 0) {
+						labels[n] = next;
+						queue[tail++] = n;
+					}
+				}
+			}
+		}
+	}
+}
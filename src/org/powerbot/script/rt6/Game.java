@@ -271,71 +271,7 @@ public class Game extends ClientAccessor {
 	 * @return the map {@link Point}
 	 */
 	public Point tileToMap(final Locatable locatable) {
-		final Point bad = new Point(-1, -1);
-		final Client client = ctx.client();
-		final Tile b = ctx.game.mapOffset();
-		final Tile t = locatable.tile().derive(-b.x(), -b.y());
-		final int tx = t.x();
-		final int ty = t.y();
-		if (client == null || tx < 1 || tx > 103 || ty < 1 || ty > 103) {
-			return bad;
-		}
-
-		final RelativeLocation r = ctx.players.local().relative();
-		final float offX = (tx * 4 - r.x() / 128) + 2;
-		final float offY = (ty * 4 - r.z() / 128) + 2;
-		final int d = (int) Math.round(Math.sqrt(Math.pow(offX, 2) + Math.pow(offY, 2)));
-
-		final Component component = mapComponent();
-		final int w = component.scrollWidth();
-		final int h = component.scrollHeight();
-		final int radius = Math.max(w / 2, h / 2) + 10;
-		if (d >= radius /*|| component.contentType() != 1338*/) {
-			return bad;
-		}
-
-		final boolean f = client.getMinimapSettings() == client.reflector.getConstant("V_MINIMAP_SCALE_ON_VALUE");
-		final double a = ctx.camera.rotation() * 16384d / (Math.PI * 2d);
-		int i = 0x3fff & (int) a;
-		if (!f) {
-			i = 0x3fff & client.getMinimapOffset() + (int) a;
-		}
-		int sin = SIN_TABLE[i], cos = COS_TABLE[i];
-		if (!f) {
-			final int scale = 256 + client.getMinimapScale();
-			sin = 256 * sin / scale;
-			cos = 256 * cos / scale;
-		}
-
-		int rotX = (int) (cos * offX + sin * offY) >> 14;
-		int rotY = (int) (cos * offY - sin * offX) >> 14;
-		rotX += w / 2;
-		rotY *= -1;
-		rotY += h / 2;
-
-		if (rotX > 4 && rotX < w - 4 &&
-				rotY > 4 && rotY < h - 4) {
-			final Point basePoint = component.screenPoint();
-			final int sX = rotX + (int) basePoint.getX();
-			final int sY = rotY + (int) basePoint.getY();
-			final Point p = new Point(sX, sY);
-			if (ctx.hud.legacy()) {
-				final Point mid = new Point(basePoint.x + component.width() / 2, basePoint.y + component.height() / 2);
-				if (Math.pow(mid.x - p.x, 2) + Math.pow(mid.y - p.y, 2) >= Math.pow(68, 2)) {
-					return bad;
-				}
-			} else {
-				final Rectangle rbuffer = new Rectangle(p.x - 6, p.y - 6, 12, 12);//entire tile and a half sized 'buffer' area
-				for (final Component blocking : mapBlockingComponents()) {
-					if (blocking.viewportRect().intersects(rbuffer)) {
-						return bad;
-					}
-				}
-			}
-			return p;
-		}
-
-		return bad;
+		return new MinimapProjection(this).point(locatable.tile());
 	}
 
 	Matrix4f getViewMatrix() {
@@ -443,6 +379,131 @@ public class Game extends ClientAccessor {
 		NONE, DEFAULT, ACTION
 	}
 
+	/**
+	 * MinimapProjection
+	 * The minimap transform read once, so that many tiles can be projected without re-reading the client.
+	 */
+	static final class MinimapProjection {
+		private static final long BAD = -1L;
+		private final Game game;
+		private final boolean valid, legacy;
+		private final int baseX, baseY, sin, cos, w, h, radius, screenX, screenY, midX, midY;
+		private final float relX, relZ;
+		private Rectangle[] blocking;
+
+		MinimapProjection(final Game game) {
+			this.game = game;
+			final ClientContext ctx = game.ctx;
+			final Client client = ctx.client();
+			valid = client != null;
+			if (!valid) {
+				legacy = false;
+				baseX = baseY = sin = cos = w = h = radius = screenX = screenY = midX = midY = 0;
+				relX = relZ = 0f;
+				return;
+			}
+			final Tile b = game.mapOffset();
+			baseX = b.x();
+			baseY = b.y();
+			final RelativeLocation r = ctx.players.local().relative();
+			relX = r.x() / 128;
+			relZ = r.z() / 128;
+
+			final Component component = game.mapComponent();
+			w = component.scrollWidth();
+			h = component.scrollHeight();
+			radius = Math.max(w / 2, h / 2) + 10;
+
+			final boolean f = client.getMinimapSettings() == client.reflector.getConstant("V_MINIMAP_SCALE_ON_VALUE");
+			final double a = ctx.camera.rotation() * 16384d / (Math.PI * 2d);
+			int i = 0x3fff & (int) a;
+			if (!f) {
+				i = 0x3fff & client.getMinimapOffset() + (int) a;
+			}
+			int sin = SIN_TABLE[i], cos = COS_TABLE[i];
+			if (!f) {
+				final int scale = 256 + client.getMinimapScale();
+				sin = 256 * sin / scale;
+				cos = 256 * cos / scale;
+			}
+			this.sin = sin;
+			this.cos = cos;
+
+			final Point basePoint = component.screenPoint();
+			screenX = basePoint.x;
+			screenY = basePoint.y;
+			legacy = ctx.hud.legacy();
+			midX = basePoint.x + component.width() / 2;
+			midY = basePoint.y + component.height() / 2;
+		}
+
+		Point point(final Tile tile) {
+			final long p = project(tile);
+			return p != BAD ? new Point((int) (p >> 32), (int) p) : new Point(-1, -1);
+		}
+
+		boolean onMap(final Tile tile) {
+			return project(tile) != BAD;
+		}
+
+		/**
+		 * Determines if a tile is within the loaded region.
+		 *
+		 * @param tile the tile
+		 * @return <tt>true</tt> if within the loaded region; otherwise <tt>false</tt>
+		 */
+		boolean valid(final Tile tile) {
+			if (!valid || tile == Tile.NIL) {
+				return false;
+			}
+			final int x = tile.x() - baseX, y = tile.y() - baseY;
+			return x >= 0 && y >= 0 && x < 104 && y < 104;
+		}
+
+		private long project(final Tile tile) {
+			final int tx = tile.x() - baseX, ty = tile.y() - baseY;
+			if (!valid || tx < 1 || tx > 103 || ty < 1 || ty > 103) {
+				return BAD;
+			}
+			final float offX = (tx * 4 - relX) + 2;
+			final float offY = (ty * 4 - relZ) + 2;
+			final int d = (int) Math.round(Math.sqrt(Math.pow(offX, 2) + Math.pow(offY, 2)));
+			if (d >= radius) {
+				return BAD;
+			}
+
+			int rotX = (int) (cos * offX + sin * offY) >> 14;
+			int rotY = (int) (cos * offY - sin * offX) >> 14;
+			rotX += w / 2;
+			rotY *= -1;
+			rotY += h / 2;
+			if (rotX <= 4 || rotX >= w - 4 || rotY <= 4 || rotY >= h - 4) {
+				return BAD;
+			}
+
+			final int sX = rotX + screenX, sY = rotY + screenY;
+			if (legacy) {
+				if (Math.pow(midX - sX, 2) + Math.pow(midY - sY, 2) >= Math.pow(68, 2)) {
+					return BAD;
+				}
+			} else {
+				if (blocking == null) {
+					final List<Component> components = game.mapBlockingComponents();
+					blocking = new Rectangle[components.size()];
+					for (int i = 0; i < blocking.length; i++) {
+						blocking[i] = components.get(i).viewportRect();
+					}
+				}
+				for (final Rectangle r : blocking) {
+					if (r.intersects(sX - 6, sY - 6, 12, 12)) {
+						return BAD;
+					}
+				}
+			}
+			return (long) sX << 32 | sY & 0xffffffffL;
+		}
+	}
+
 	static class Matrix4f {
 		public float m00, m01, m02, m03;
 		public float m10, m11, m12, m13;
@@ -7,6 +7,7 @@ import org.powerbot.bot.rt6.Bot;
 import org.powerbot.bot.rt6.client.RelativePosition;
 import org.powerbot.script.Actionable;
 import org.powerbot.script.Area;
+import org.powerbot.script.CycleMemo;
 import org.powerbot.script.Identifiable;
 import org.powerbot.script.InteractiveEntity;
 import org.powerbot.script.Nameable;
@@ -18,8 +19,12 @@ import org.powerbot.script.Tile;
  */
 public class GameObject extends Interactive implements InteractiveEntity, Nameable, Identifiable, Actionable {
 	public static final Color TARGET_COLOR = new Color(0, 255, 0, 20);
+	private static final int MEMO_TILE = 0;
+	private static final int MEMO_NAME = 1;
+	private static final int MEMO_ID = 2;
 	public final BasicObject object;
 	private final Type type;
+	private CycleMemo memo;
 
 	public GameObject(final ClientContext ctx, final BasicObject object, final Type type) {
 		super(ctx);
@@ -56,7 +61,7 @@ public class GameObject extends Interactive implements InteractiveEntity, Nameab
 
 	@Override
 	public int id() {
-		return object != null ? object.getId() : -1;
+		return (Integer) memo(MEMO_ID);
 	}
 
 	public Type type() {
@@ -69,12 +74,7 @@ public class GameObject extends Interactive implements InteractiveEntity, Nameab
 
 	@Override
 	public String name() {
-		final CacheObjectConfig c = CacheObjectConfig.load(Bot.CACHE_WORKER, id());
-		String s = "";
-		if (c != null) {
-			s = c.name;
-		}
-		return s == null ? "" : StringUtils.stripHtml(s);
+		return (String) memo(MEMO_NAME);
 	}
 
 	@Override
@@ -104,11 +104,7 @@ public class GameObject extends Interactive implements InteractiveEntity, Nameab
 
 	@Override
 	public Tile tile() {
-		final RelativeLocation location = relative();
-		if (object == null || object.object.isNull()) {
-			return Tile.NIL;
-		}
-		return ctx.game.mapOffset().derive((int) location.x() >> 9, (int) location.z() >> 9, object.getFloor());
+		return (Tile) memo(MEMO_TILE);
 	}
 
 	public int clippingType() {
@@ -167,6 +163,65 @@ public class GameObject extends Interactive implements InteractiveEntity, Nameab
 		return GameObject.class.getSimpleName() + "[id=" + id() + ",name=" + name() + "]";
 	}
 
+	/**
+	 * Returns a value derived during the current game cycle, which is memoized if the {@code memo.cycle} property
+	 * was enabled when this object first derived a value.
+	 *
+	 * @param slot the index of the value
+	 * @return the value
+	 */
+	private Object memo(final int slot) {
+		if (memo == null) {
+			memo = ctx.clock.memoize() ? ctx.clock.memo(3, new CycleMemo.Source() {
+				@Override
+				public Object derive(final int slot) {
+					return GameObject.this.derive(slot);
+				}
+			}) : CycleMemo.NONE;
+		}
+		return memo != CycleMemo.NONE ? memo.get(slot) : derive(slot);
+	}
+
+	/**
+	 * Derives a memoized value from the game state.
+	 *
+	 * @param slot the index of the value
+	 * @return the value; or {@code null} if the slot is unknown
+	 */
+	private Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_ID:
+			return deriveId();
+		case MEMO_NAME:
+			return deriveName();
+		case MEMO_TILE:
+			return deriveTile();
+		default:
+			return null;
+		}
+	}
+
+	private int deriveId() {
+		return object != null ? object.getId() : -1;
+	}
+
+	private String deriveName() {
+		final CacheObjectConfig c = CacheObjectConfig.load(Bot.CACHE_WORKER, id());
+		String s = "";
+		if (c != null) {
+			s = c.name;
+		}
+		return s == null ? "" : StringUtils.stripHtml(s);
+	}
+
+	private Tile deriveTile() {
+		final RelativeLocation location = relative();
+		if (object == null || object.object.isNull()) {
+			return Tile.NIL;
+		}
+		return ctx.game.mapOffset().derive((int) location.x() >> 9, (int) location.z() >> 9, object.getFloor());
+	}
+
 	public enum Type {
 		INTERACTIVE, BOUNDARY, WALL_DECORATION, FLOOR_DECORATION, UNKNOWN
 	}
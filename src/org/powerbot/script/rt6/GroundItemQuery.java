@@ -9,6 +9,7 @@ import org.powerbot.script.Filter;
 import org.powerbot.script.Identifiable;
 import org.powerbot.script.Locatable;
 import org.powerbot.script.Nameable;
+import org.powerbot.script.SpatialIndex;
 import org.powerbot.script.Stackable;
 import org.powerbot.script.Viewable;
 
@@ -82,6 +83,15 @@ public abstract class GroundItemQuery<K extends Locatable & Identifiable & Namea
 		return sort(new Locatable.NearestTo(locatable.tile()));
 	}
 
+	/**
+	 * Indexes the current results by location, for repeated radius, area and nearest lookups.
+	 *
+	 * @return a spatial index of the current results
+	 */
+	public SpatialIndex<K> index() {
+		return new SpatialIndex<K>(this);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -2,18 +2,36 @@ package org.powerbot.script.rt6;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt6.NodeQueue;
 import org.powerbot.bot.rt6.client.Client;
 import org.powerbot.bot.rt6.client.HashTable;
 import org.powerbot.bot.rt6.client.ItemNode;
+import org.powerbot.bot.rt6.client.Node;
 import org.powerbot.bot.rt6.client.NodeListCache;
+import org.powerbot.script.GroundItemIndex;
 import org.powerbot.script.Tile;
 
 /**
  * GroundItems
  */
 public class GroundItems extends GroundItemQuery<GroundItem> {
+	private static final GroundItemIndex.Values VALUES = new GroundItemIndex.Values() {
+		private final Map<Integer, Integer> values = new ConcurrentHashMap<Integer, Integer>();
+
+		@Override
+		public int value(final int id) {
+			Integer v = values.get(id);
+			if (v == null) {
+				values.put(id, v = Math.max(0, CacheItemConfig.load(id).value));
+			}
+			return v;
+		}
+	};
+
 	public GroundItems(final ClientContext factory) {
 		super(factory);
 	}
@@ -22,6 +40,16 @@ public class GroundItems extends GroundItemQuery<GroundItem> {
 		return select(get(radius));
 	}
 
+	/**
+	 * Indexes the ground items within a radius by tile and by id.
+	 *
+	 * @param radius the radius, in tiles
+	 * @return the index
+	 */
+	public GroundItemIndex<GroundItem> index(final int radius) {
+		return new GroundItemIndex<GroundItem>(get(radius), VALUES);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -47,25 +75,31 @@ public class GroundItems extends GroundItemQuery<GroundItem> {
 			return items;
 		}
 		final int plane = client.getFloor();
-		long id;
-		NodeListCache cache;
-
 		final Tile base = ctx.game.mapOffset();
 		final Tile player = ctx.players.local().tile();
 		if (base == Tile.NIL || player == Tile.NIL || !player.matrix(ctx).valid()) {
 			return items;
 		}
-		final int bx = base.x(), mx = bx + 103,
-				by = base.y(), my = by + 103;
-		for (int x = Math.max(bx, player.x() - radius); x <= Math.min(mx, player.x() + radius); x++) {
-			for (int y = Math.max(by, player.y() - radius); y <= Math.min(my, player.y() + radius); y++) {
-				id = x | y << 14 | plane << 28;
-				cache = org.powerbot.bot.rt6.HashTable.lookup(table, id, NodeListCache.class);
-				if (cache.isNull()) {
+		final int bx = base.x(), by = base.y();
+		final int x1 = Math.max(bx, player.x() - radius), x2 = Math.min(bx + 103, player.x() + radius),
+				y1 = Math.max(by, player.y() - radius), y2 = Math.min(by + 103, player.y() + radius);
+		final ProxyArray<Node> buckets = table.getBucketArray();
+		for (int i = 0; i < buckets.length(); i++) {
+			final Object sentinel = buckets.raw(i);
+			if (sentinel == null) {
+				continue;
+			}
+			for (Node node = buckets.get(i).getNext(); !node.isNull() && node.obj.get() != sentinel; node = node.getNext()) {
+				final long id = node.getId();
+				final int x = (int) (id & 0x3fff), y = (int) (id >> 14 & 0x3fff);
+				if ((id >> 28 & 0x3) != plane || x < x1 || x > x2 || y < y1 || y > y2 ||
+						!node.isTypeOf(NodeListCache.class)) {
 					continue;
 				}
+				final NodeListCache cache = new NodeListCache(node.reflector, node);
+				final Tile tile = new Tile(x, y, plane);
 				for (final ItemNode item : NodeQueue.get(cache.getDeque(), ItemNode.class)) {
-					items.add(new GroundItem(ctx, new Tile(x, y, plane), item));
+					items.add(new GroundItem(ctx, tile, item));
 				}
 			}
 		}
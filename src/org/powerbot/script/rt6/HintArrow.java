@@ -2,6 +2,7 @@ package org.powerbot.script.rt6;
 
 import java.util.Arrays;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.Reflector;
 import org.powerbot.bot.rt6.HashTable;
 import org.powerbot.bot.rt6.client.Client;
@@ -63,15 +64,11 @@ public class HintArrow extends ClientAccessor implements Locatable, Validatable
 		} else if (type == 2) {
 			return ctx.game.mapOffset().derive(arrow.getX() >> 9, arrow.getY() >> 9, floor());
 		}
-		final Player[] players = client.getPlayers();
-		if (type != 10 || target < 0 || target >= players.length) {
+		final ProxyArray<Player> players = client.getPlayerArray();
+		if (type != 10 || target < 0 || target >= players.length()) {
 			return Tile.NIL;
 		}
-		final Player localPlayer = players[target];
-		if (localPlayer != null) {
-			return new org.powerbot.script.rt6.Player(ctx, localPlayer).tile();
-		}
-		return Tile.NIL;
+		return new org.powerbot.script.rt6.Player(ctx, players.get(target)).tile();
 	}
 
 	public RelativeLocation relative() {
@@ -2,6 +2,12 @@ package org.powerbot.script.rt6;
 
 import java.awt.Rectangle;
 import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.powerbot.script.Condition;
@@ -12,10 +18,21 @@ import org.powerbot.script.Condition;
  */
 public class Hud extends ClientAccessor {
 	private final AtomicReference<Rectangle[]> boundsCache = new AtomicReference<Rectangle[]>(null);
-	private long cachedAt = 0;
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+	private final ThreadPoolExecutor refresher;
+	private volatile long cachedAt = 0;
 
 	public Hud(final ClientContext factory) {
 		super(factory);
+		refresher = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable r) {
+				final Thread t = new Thread(r, Hud.class.getSimpleName());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		refresher.allowCoreThreadTimeOut(true);
 	}
 
 	private void updateBounds() {
@@ -56,19 +73,25 @@ public class Hud extends ClientAccessor {
 	 * @return an array of HUD bounds
 	 */
 	public Rectangle[] bounds() {
-		if (Math.abs(System.currentTimeMillis() - cachedAt) >= 1500) {
+		if (Math.abs(System.currentTimeMillis() - cachedAt) >= 1500 && refreshing.compareAndSet(false, true)) {
 			cachedAt = System.currentTimeMillis();
-			final Thread t = new Thread(new Runnable() {
+			final Runnable r = new Runnable() {
 				@Override
 				public void run() {
-					updateBounds();
+					try {
+						updateBounds();
+					} finally {
+						refreshing.set(false);
+					}
 				}
-			});
-			t.start();
-			if (boundsCache.get() == null) {
+			};
+			if (boundsCache.get() == null || ctx.properties.getProperty("hud.async", "true").equals("false")) {
+				r.run();
+			} else {
 				try {
-					t.join();
-				} catch (final InterruptedException ignored) {
+					refresher.execute(r);
+				} catch (final RejectedExecutionException ignored) {
+					refreshing.set(false);
 				}
 			}
 		}
@@ -159,25 +159,25 @@ public class Menu extends ClientAccessor {
 		}
 
 		final Game.Viewport v = ctx.game.getViewport();
-		final int mx = client.getMenuX(), my = client.getMenuY();
+		final int[] menu = client.getMenu();
+		final int mx = menu[0], my = menu[1];
 		int x1, x2;
 		final int y1, y2;
 		x1 = x2 = mx;
 		y1 = y2 = Math.min((int) v.my - 5, Math.max(4, my + Random.nextInt(-10, 10)));
 		x1 = Math.max(4, x1 + Random.nextInt(-30, -10));
-		x2 = x2 + client.getMenuWidth() +
-				(client.isMenuCollapsed() ? client.getSubMenuWidth() : 0) + Random.nextInt(10, 30);
+		x2 = x2 + menu[2] + (client.isMenuCollapsed() ? menu[6] : 0) + Random.nextInt(10, 30);
 		if (x2 <= (int) v.mx - 5 && (x1 - mx >= 5 || Random.nextBoolean())) {
 			ctx.input.move(x2, y2);
 		} else {
 			ctx.input.move(x1, y1);
 		}
-		return Condition.wait(new Condition.Check() {
+		return Condition.wait(ctx.clock, new Condition.Check() {
 			@Override
 			public boolean poll() {
 				return client.isMenuOpen();
 			}
-		}, 10, 50);
+		}, 500);
 	}
 
 	public Rectangle bounds() {
@@ -185,7 +185,8 @@ public class Menu extends ClientAccessor {
 		if (client == null || !opened()) {
 			return new Rectangle(-1, -1, -1, -1);
 		}
-		return new Rectangle(client.getMenuX(), client.getMenuY(), client.getMenuWidth(), client.getMenuHeight());
+		final int[] menu = client.getMenu();
+		return new Rectangle(menu[0], menu[1], menu[2], menu[3]);
 	}
 
 	private Point hoverIndex(final Client client, final int index) {
@@ -214,17 +215,19 @@ public class Menu extends ClientAccessor {
 			}
 			return new Point(-1, -1);
 		}
+		final int[] menu = client.getMenu();
 		final Vector2 p = new Vector2(
-				client.getMenuX() + Random.nextInt(4, client.getMenuWidth() - 5),
-				client.getMenuY() + 21 + Random.nextInt(2, 15)
+				menu[0] + Random.nextInt(4, menu[2] - 5),
+				menu[1] + 21 + Random.nextInt(2, 15)
 		).add(addum);
 		return ctx.input.move(p.toPoint()) && client.isMenuOpen() ? p.toPoint() : new Point(-1, -1);
 	}
 
 	private Point hoverSub(final Client client, final int main, final int sub) {
+		final int[] menu = client.getMenu();
 		final Vector2 dv = new Vector2(
-				client.getMenuX() + Random.nextInt(4, client.getMenuWidth() - 5),
-				client.getMenuY() + (21 + 16 * main + Random.nextInt(2, 15))
+				menu[0] + Random.nextInt(4, menu[2] - 5),
+				menu[1] + (21 + 16 * main + Random.nextInt(2, 15))
 		);
 		if (ctx.input.move(dv.toPoint())) {
 			Condition.sleep();
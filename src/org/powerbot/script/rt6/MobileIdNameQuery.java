@@ -1,5 +1,7 @@
 package org.powerbot.script.rt6;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.powerbot.script.AbstractQuery;
@@ -9,6 +11,7 @@ import org.powerbot.script.Filter;
 import org.powerbot.script.Identifiable;
 import org.powerbot.script.Locatable;
 import org.powerbot.script.Nameable;
+import org.powerbot.script.SpatialIndex;
 import org.powerbot.script.Viewable;
 
 /**
@@ -81,6 +84,41 @@ public abstract class MobileIdNameQuery<K extends Locatable & Identifiable & Nam
 		return sort(new Locatable.NearestTo(locatable.tile()));
 	}
 
+	/**
+	 * Indexes the current results by location, for repeated radius, area and nearest lookups.
+	 *
+	 * @return a spatial index of the current results
+	 */
+	public SpatialIndex<K> index() {
+		return new SpatialIndex<K>(this);
+	}
+
+	/**
+	 * Selects the entities which can be walked to from the local player into the query cache,
+	 * sorted by ascending path distance.
+	 *
+	 * @return {@code this} for the purpose of method chaining
+	 * @see Movement#distances(Locatable, Locatable...)
+	 */
+	public MobileIdNameQuery<K> nearestReachable() {
+		return nearestReachable(ctx.players.local());
+	}
+
+	/**
+	 * Selects the entities which can be walked to from the specified locatable into the query cache,
+	 * sorted by ascending path distance.
+	 * All distances are computed by a single search of the loaded region.
+	 *
+	 * @param locatable the locatable to measure path distances from
+	 * @return {@code this} for the purpose of method chaining
+	 * @see Movement#distances(Locatable, Locatable...)
+	 */
+	public MobileIdNameQuery<K> nearestReachable(final Locatable locatable) {
+		final List<K> items = new ArrayList<K>();
+		addTo(items);
+		return nearest(items, ctx.movement.distances(locatable, items.toArray(new Locatable[items.size()])));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
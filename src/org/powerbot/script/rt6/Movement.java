@@ -2,11 +2,15 @@ package org.powerbot.script.rt6;
 
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.Arrays;
 
 import org.powerbot.bot.rt6.client.Client;
+import org.powerbot.script.Area;
+import org.powerbot.script.CollisionSnapshot;
 import org.powerbot.script.Condition;
 import org.powerbot.script.Filter;
 import org.powerbot.script.Locatable;
+import org.powerbot.script.PortalGraph;
 import org.powerbot.script.StringUtils;
 import org.powerbot.script.Targetable;
 import org.powerbot.script.Tile;
@@ -26,6 +30,8 @@ public class Movement extends ClientAccessor {
 	@Deprecated
 	public static final int SETTING_RUN_ENABLED = Constants.MOVEMENT_RUN_STATE;
 
+	private final ConnectivityMap[] connectivity = new ConnectivityMap[4];
+
 	public Movement(final ClientContext factory) {
 		super(factory);
 	}
@@ -56,6 +62,20 @@ public class Movement extends ClientAccessor {
 		return new LocalPath(ctx, ctx.map, locatable);
 	}
 
+	/**
+	 * Creates a path to a destination that may be outside of the loaded region.
+	 *
+	 * @param graph     the graph to plan the route over
+	 * @param locatable the destination tile
+	 * @return the generated {@link WorldPath}
+	 */
+	public WorldPath findPath(final PortalGraph graph, final Locatable locatable) {
+		if (graph == null || locatable == null) {
+			throw new IllegalArgumentException();
+		}
+		return new WorldPath(ctx, graph, locatable);
+	}
+
 	/**
 	 * Determines the current destination of the player.
 	 *
@@ -203,6 +223,26 @@ public class Movement extends ClientAccessor {
 		return planes[plane];
 	}
 
+	/**
+	 * Records the collision flags of the current floor of the loaded region.
+	 *
+	 * @return the snapshot; or {@code null} if the map base is unavailable
+	 */
+	public CollisionSnapshot collisionSnapshot() {
+		final Tile base = ctx.game.mapOffset();
+		if (base == Tile.NIL) {
+			return null;
+		}
+		final CollisionMap map = collisionMap(base.floor());
+		final int[][] flags = new int[Math.max(0, map.width() - 2)][Math.max(0, map.height() - 2)];
+		for (int x = 0; x < flags.length; x++) {
+			for (int y = 0; y < flags[x].length; y++) {
+				flags[x][y] = map.flagAt(x, y).getType();
+			}
+		}
+		return new CollisionSnapshot(base, flags);
+	}
+
 	public int distance(final Locatable end) {
 		return distance(ctx.players.local(), end);
 	}
@@ -238,6 +278,124 @@ public class Movement extends ClientAccessor {
 		return ctx.map.getDistance(startX, startY, endX, endY, ctx.game.floor());
 	}
 
+	/**
+	 * Computes the path distance from the start to every one of the targets using a single
+	 * breadth-first flood of the collision map, rather than one search per target.
+	 * Targets standing on blocked tiles (such as objects) are measured to the closest reachable tile
+	 * surrounding them, plus the step onto the target.
+	 * Distances are counted in steps, so that a target on the start tile is {@code 0} away.
+	 *
+	 * @param start   the start position
+	 * @param targets the positions to measure
+	 * @return the path distances in steps, indexed by target, where {@code -1} marks an unreachable target
+	 */
+	public int[] distances(final Locatable start, final Locatable... targets) {
+		final int[] d = new int[targets.length];
+		Arrays.fill(d, -1);
+		final Tile base = ctx.game.mapOffset();
+		final Tile s = start != null ? start.tile() : null;
+		if (base == null || base == Tile.NIL || s == null || s == Tile.NIL) {
+			return d;
+		}
+		final ConnectivityMap map = connectivity(s.floor());
+		final int sx = s.x() - base.x(), sy = s.y() - base.y();
+		final int origin = map.index(sx, sy), area = map.label(sx, sy);
+		if (area == 0) {
+			return d;
+		}
+
+		final int[] goals = new int[targets.length];
+		final boolean[] wanted = new boolean[map.width * map.height];
+		int remaining = 0;
+		for (int i = 0; i < targets.length; i++) {
+			final Tile t = targets[i] != null ? targets[i].tile() : null;
+			if (t == null || t == Tile.NIL || t.floor() != s.floor()) {
+				goals[i] = -1;
+				continue;
+			}
+			final int x = t.x() - base.x(), y = t.y() - base.y();
+			if ((goals[i] = map.index(x, y)) == -1) {
+				continue;
+			}
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++) {
+					if ((dx != 0 || dy != 0) && !map.blocked(goals[i])) {
+						continue;
+					}
+					final int n = map.index(x + dx, y + dy);
+					if (n != -1 && !wanted[n] && map.label(x + dx, y + dy) == area) {
+						wanted[n] = true;
+						remaining++;
+					}
+				}
+			}
+		}
+
+		final int[] steps = new int[wanted.length];
+		Arrays.fill(steps, -1);
+		final int[] queue = new int[wanted.length];
+		int head = 0, tail = 0;
+		steps[origin] = 0;
+		queue[tail++] = origin;
+		while (head < tail && remaining > 0) {
+			final int i = queue[head++];
+			if (wanted[i]) {
+				remaining--;
+			}
+			for (int dir = 0; dir < 8; dir++) {
+				final int n = map.step(i, dir);
+				if (n != -1 && steps[n] == -1) {
+					steps[n] = steps[i] + 1;
+					queue[tail++] = n;
+				}
+			}
+		}
+
+		for (int i = 0; i < goals.length; i++) {
+			final int g = goals[i];
+			if (g == -1) {
+				continue;
+			}
+			if (!map.blocked(g)) {
+				d[i] = steps[g];
+				continue;
+			}
+			final int x = g / map.height, y = g % map.height;
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++) {
+					final int n = map.index(x + dx, y + dy);
+					if (n != -1 && steps[n] != -1 && (d[i] == -1 || steps[n] + 1 < d[i])) {
+						d[i] = steps[n] + 1;
+					}
+				}
+			}
+		}
+		return d;
+	}
+
+	/**
+	 * Labels the connected areas of the collision map of a floor.
+	 * The labelling is computed once and reused until the collision map changes, which is checked once per game cycle.
+	 *
+	 * @param floor the floor
+	 * @return the labelled snapshot of the collision map
+	 */
+	ConnectivityMap connectivity(final int floor) {
+		final CollisionMap map = collisionMap(floor);
+		final int cycle = ctx.clock.cycle();
+		if (floor < 0 || floor >= connectivity.length) {
+			return new ConnectivityMap(map, cycle);
+		}
+		synchronized (connectivity) {
+			ConnectivityMap c = connectivity[floor];
+			if (c == null || !c.matches(map, cycle)) {
+				c = new ConnectivityMap(map, cycle);
+				connectivity[floor] = c;
+			}
+			return c;
+		}
+	}
+
 	/**
 	 * Determines if the the end position is reachable from the start position.
 	 *
@@ -262,11 +420,41 @@ public class Movement extends ClientAccessor {
 		}
 		start = start.derive(-base.x(), -base.y());
 		end = end.derive(-base.x(), -base.y());
+		return connectivity(ctx.game.floor()).connected(start.x(), start.y(), end.x(), end.y());
+	}
 
-		final int startX = start.x();
-		final int startY = start.y();
-		final int endX = end.x();
-		final int endY = end.y();
-		return ctx.map.getPath(startX, startY, endX, endY, ctx.game.floor()).length > 0;
+	/**
+	 * Determines if any tile of the area is reachable from the start position.
+	 *
+	 * @param _start the start position
+	 * @param area   the area
+	 * @return <tt>true</tt> if a tile within the area is reachable; otherwise <tt>false</tt>
+	 */
+	public boolean reachable(final Locatable _start, final Area area) {
+		final Tile start = _start != null ? _start.tile() : Tile.NIL;
+		final Tile base = ctx.game.mapOffset();
+		if (area == null || base == Tile.NIL || start == Tile.NIL || start.floor() != ctx.game.floor()) {
+			return false;
+		}
+		final ConnectivityMap map = connectivity(ctx.game.floor());
+		final int l = map.label(start.x() - base.x(), start.y() - base.y());
+		if (l == 0) {
+			return false;
+		}
+		final boolean[] goals = map.oneWay(l) ? new boolean[map.width * map.height] : null;
+		boolean found = false;
+		final Rectangle r = area.getPolygon().getBounds();
+		for (int x = r.x; x < r.x + r.width; x++) {
+			for (int y = r.y; y < r.y + r.height; y++) {
+				if (map.label(x - base.x(), y - base.y()) == l && area.contains(new Tile(x, y, start.floor()))) {
+					if (goals == null) {
+						return true;
+					}
+					goals[map.tile(x - base.x(), y - base.y())] = true;
+					found = true;
+				}
+			}
+		}
+		return found && map.reaches(start.x() - base.x(), start.y() - base.y(), goals);
 	}
 }
@@ -26,8 +26,7 @@ public class Npc extends Actor implements Identifiable, Actionable {
 
 	@Override
 	public String name() {
-		final NpcConfig d = npc.getConfig();
-		return d.isNull() ? "" : StringUtils.stripHtml(d.getName());
+		return (String) memo(MEMO_NAME);
 	}
 
 	@Override
@@ -38,8 +37,7 @@ public class Npc extends Actor implements Identifiable, Actionable {
 
 	@Override
 	public int id() {
-		final NpcConfig d = npc.getConfig();
-		return d.isNull() ? -1 : d.getId();
+		return (Integer) memo(MEMO_ID);
 	}
 
 	@Override
@@ -77,6 +75,28 @@ public class Npc extends Actor implements Identifiable, Actionable {
 		return arr1 != null ? arr1 : arr2 != null ? arr2 : new short[0];
 	}
 
+	@Override
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_NAME:
+			return deriveName();
+		case MEMO_ID:
+			return deriveId();
+		default:
+			return super.derive(slot);
+		}
+	}
+
+	private String deriveName() {
+		final NpcConfig d = npc.getConfig();
+		return d.isNull() ? "" : StringUtils.stripHtml(d.getName());
+	}
+
+	private int deriveId() {
+		final NpcConfig d = npc.getConfig();
+		return d.isNull() ? -1 : d.getId();
+	}
+
 	@Override
 	public boolean valid() {
 		final org.powerbot.bot.rt6.client.Npc npc = getAccessor();
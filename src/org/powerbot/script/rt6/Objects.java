@@ -1,11 +1,20 @@
 package org.powerbot.script.rt6;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.ReflectProxy;
 import org.powerbot.bot.Reflector;
 import org.powerbot.bot.rt6.client.BoundaryObject;
@@ -26,10 +35,55 @@ import org.powerbot.script.Locatable;
  * Utilities pertaining to in-game objects.
  */
 public class Objects extends MobileIdNameQuery<GameObject> {
-	private static final Class<?> o_types[][] = {
-			{BoundaryObject.class, DynamicBoundaryObject.class}, {BoundaryObject.class, DynamicBoundaryObject.class},
-			{FloorObject.class, DynamicFloorObject.class},
-			{WallObject.class, DynamicWallObject.class}, {WallObject.class, DynamicWallObject.class}
+	/**
+	 * The number of row stripes a parallel scan is split into.
+	 */
+	private static final int STRIPES = 4;
+	/**
+	 * The number of tiles under which a scan stays on the calling thread.
+	 */
+	private static final int PARALLEL_THRESHOLD = 48 * 48;
+	private static final Factory NONE = new Factory(null) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return null;
+		}
+	};
+	private static final Factory BOUNDARY = new Factory(BoundaryObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new BoundaryObject(reflector, o);
+		}
+	}, DYNAMIC_BOUNDARY = new Factory(DynamicBoundaryObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new DynamicBoundaryObject(reflector, o);
+		}
+	}, FLOOR = new Factory(FloorObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new FloorObject(reflector, o);
+		}
+	}, DYNAMIC_FLOOR = new Factory(DynamicFloorObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new DynamicFloorObject(reflector, o);
+		}
+	}, WALL = new Factory(WallObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new WallObject(reflector, o);
+		}
+	}, DYNAMIC_WALL = new Factory(DynamicWallObject.class) {
+		@Override
+		RenderableEntity create(final Reflector reflector, final Object o) {
+			return new DynamicWallObject(reflector, o);
+		}
+	};
+	private static final Factory o_types[][] = {
+			{BOUNDARY, DYNAMIC_BOUNDARY}, {BOUNDARY, DYNAMIC_BOUNDARY},
+			{FLOOR, DYNAMIC_FLOOR},
+			{WALL, DYNAMIC_WALL}, {WALL, DYNAMIC_WALL}
 	};
 	private static final GameObject.Type[] types = {
 			GameObject.Type.BOUNDARY, GameObject.Type.BOUNDARY,
@@ -37,8 +91,25 @@ public class Objects extends MobileIdNameQuery<GameObject> {
 			GameObject.Type.WALL_DECORATION, GameObject.Type.WALL_DECORATION
 	};
 
+	private final Map<Class<?>, Factory>[] factories;
+	private final ThreadPoolExecutor scanner;
+
+	@SuppressWarnings("unchecked")
 	public Objects(final ClientContext factory) {
 		super(factory);
+		factories = new Map[o_types.length];
+		for (int i = 0; i < factories.length; i++) {
+			factories[i] = new IdentityHashMap<Class<?>, Factory>();
+		}
+		scanner = new ThreadPoolExecutor(STRIPES, STRIPES, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable r) {
+				final Thread t = new Thread(r, Objects.class.getSimpleName());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		scanner.allowCoreThreadTimeOut(true);
 	}
 
 	public MobileIdNameQuery<GameObject> select(final int radius) {
@@ -68,13 +139,12 @@ public class Objects extends MobileIdNameQuery<GameObject> {
 		if (client == null) {
 			return items;
 		}
-		final Tile[][][] grounds = client.getWorld().getLandscape().getTiles();
 		final int floor = ctx.game.floor();
-		if (floor < 0 || floor >= grounds.length) {
+		final ProxyArray<ProxyArray<Tile>> rows = client.getWorld().getLandscape().getTileArray(floor);
+		if (rows.length() == 0) {
 			return items;
 		}
 		final Set<GameObject> set = new HashSet<GameObject>();
-		final Tile[][] rows = grounds[floor];
 		int start_x = 0, end_x = Integer.MAX_VALUE, start_y = 0, end_y = Integer.MAX_VALUE;
 		if (radius >= 0) {
 			final org.powerbot.script.Tile mo = ctx.game.mapOffset(), lp = l.tile();
@@ -86,25 +156,96 @@ public class Objects extends MobileIdNameQuery<GameObject> {
 				end_y = t.y() + radius;
 			}
 		}
-		for (int x = Math.max(0, start_x); x <= Math.min(end_x, rows.length - 1); x++) {
-			final Tile[] col = rows[x];
-			for (int y = Math.max(0, start_y); y <= Math.min(end_y, col.length - 1); y++) {
-				final Tile tile = col[y];
-				if (tile.isNull()) {
+		final int x0 = Math.max(0, start_x), x1 = Math.min(end_x, rows.length() - 1), y0 = Math.max(0, start_y);
+		final long s = System.nanoTime();
+		final int[] lookups = new int[2];
+		if (ctx.properties.getProperty("objects.parallel", "").equals("true") && x1 >= x0 &&
+				(long) (x1 - x0 + 1) * (Math.min(end_y, rows.length() - 1) - y0 + 1) >= PARALLEL_THRESHOLD) {
+			scanParallel(rows, x0, x1, y0, end_y, floor, items, set, lookups);
+		} else {
+			scan(rows, x0, x1 + 1, y0, end_y, floor, items, set, lookups);
+		}
+		if (ctx.metrics.profiling()) {
+			ctx.metrics.record("scan.objects.us", (System.nanoTime() - s) / 1000L);
+			ctx.metrics.record("cache.objects.hit", lookups[0]);
+			ctx.metrics.record("cache.objects.miss", lookups[1]);
+		}
+		items.addAll(set);
+		set.clear();
+		return items;
+	}
+
+	/**
+	 * Scans the tile window in row stripes on this bot's scanner threads, merging the stripes in order.
+	 * If any stripe fails the window is scanned again on the calling thread; if the calling thread is interrupted the
+	 * stripes merged so far are kept.
+	 */
+	private void scanParallel(final ProxyArray<ProxyArray<Tile>> rows, final int x0, final int x1, final int y0, final int y1,
+	                          final int floor, final List<GameObject> items, final Set<GameObject> set, final int[] lookups) {
+		final int step = (x1 - x0 + STRIPES) / STRIPES;
+		final List<Future<Stripe>> stripes = new ArrayList<Future<Stripe>>(STRIPES);
+		for (int x = x0; x <= x1; x += step) {
+			final int from = x, to = Math.min(x1 + 1, x + step);
+			stripes.add(scanner.submit(new Callable<Stripe>() {
+				@Override
+				public Stripe call() {
+					final Stripe r = new Stripe();
+					scan(rows, from, to, y0, y1, floor, r.items, r.set, r.lookups);
+					return r;
+				}
+			}));
+		}
+		try {
+			for (final Future<Stripe> f : stripes) {
+				final Stripe r = f.get();
+				items.addAll(r.items);
+				set.addAll(r.set);
+				lookups[0] += r.lookups[0];
+				lookups[1] += r.lookups[1];
+			}
+			return;
+		} catch (final InterruptedException ignored) {
+			Thread.currentThread().interrupt();
+			for (final Future<Stripe> f : stripes) {
+				f.cancel(false);
+			}
+			return;
+		} catch (final ExecutionException ignored) {
+		}
+		for (final Future<Stripe> f : stripes) {
+			f.cancel(false);
+		}
+		items.clear();
+		set.clear();
+		scan(rows, x0, x1 + 1, y0, y1, floor, items, set, lookups);
+	}
+
+	/**
+	 * Scans the tiles of rows {@code x0} (inclusive) to {@code x1} (exclusive), counting factory cache hits and misses
+	 * into {@code lookups}.
+	 */
+	private void scan(final ProxyArray<ProxyArray<Tile>> rows, final int x0, final int x1, final int y0, final int y1,
+	                  final int floor, final List<GameObject> items, final Set<GameObject> set, final int[] lookups) {
+		for (int x = x0; x < x1; x++) {
+			final ProxyArray<Tile> col = rows.get(x);
+			for (int y = y0; y <= Math.min(y1, col.length() - 1); y++) {
+				if (col.isNull(y)) {
 					continue;
 				}
+				final Tile tile = col.get(y);
+				//each hop still wraps the next node, as a ReflectProxy cannot be pointed at another object
 				for (RenderableNode node = tile.getInteractives(); !node.isNull(); node = node.getNext()) {
-					final RenderableEntity r = node.getEntity();
-					if (r.isNull()) {
+					final Object r = node.getEntityObject();
+					if (r == null) {
 						continue;
 					}
-					if (r.isTypeOf(org.powerbot.bot.rt6.client.GameObject.class)) {
-						final org.powerbot.bot.rt6.client.GameObject o = new org.powerbot.bot.rt6.client.GameObject(r.reflector, r);
+					if (tile.reflector.isTypeOf(r, org.powerbot.bot.rt6.client.GameObject.class)) {
+						final org.powerbot.bot.rt6.client.GameObject o = new org.powerbot.bot.rt6.client.GameObject(tile.reflector, r);
 						if (o.getId() != -1) {
 							set.add(new GameObject(ctx, new BasicObject(o, floor), GameObject.Type.INTERACTIVE));
 						}
-					} else if (r.isTypeOf(DynamicGameObject.class)) {
-						final DynamicGameObject o = new DynamicGameObject(r.reflector, r);
+					} else if (tile.reflector.isTypeOf(r, DynamicGameObject.class)) {
+						final DynamicGameObject o = new DynamicGameObject(tile.reflector, r);
 						if (o.getBridge().getId() != -1) {
 							set.add(new GameObject(ctx, new BasicObject(o, floor), GameObject.Type.INTERACTIVE));
 						}
@@ -119,33 +260,46 @@ public class Objects extends MobileIdNameQuery<GameObject> {
 					if (objs[i] == null) {
 						continue;
 					}
-					Class<?> type = null;
-					for (final Class<?> e : o_types[i]) {
-						@SuppressWarnings("unchecked")
-						final Class<? extends ReflectProxy> c = (Class<? extends ReflectProxy>) e;
-						if (c != null && tile.reflector.isTypeOf(objs[i], c)) {
-							type = c;
-							break;
-						}
-					}
-					if (type == null) {
-						continue;
-					}
-					try {
-						items.add(new GameObject(ctx,
-								new BasicObject((RenderableEntity) type.getConstructor(Reflector.class, Object.class).newInstance(tile.reflector, objs[i]), floor),
-								types[i]));
-					} catch (final InstantiationException ignored) {
-					} catch (final IllegalAccessException ignored) {
-					} catch (final InvocationTargetException ignored) {
-					} catch (final NoSuchMethodException ignored) {
+					final RenderableEntity e = factory(i, tile.reflector, objs[i], lookups).create(tile.reflector, objs[i]);
+					if (e != null) {
+						items.add(new GameObject(ctx, new BasicObject(e, floor), types[i]));
 					}
 				}
 			}
 		}
-		items.addAll(set);
-		set.clear();
-		return items;
+	}
+
+	/**
+	 * Resolves the proxy type of a tile slot object, checking its class against the slot's candidates only the first
+	 * time the class is seen.
+	 *
+	 * @param slot      the tile slot
+	 * @param reflector the reflector
+	 * @param o         the raw object
+	 * @param lookups   the counts of cache hits and misses of the scan
+	 * @return the factory; or {@link #NONE} if the object is of no candidate type
+	 */
+	private Factory factory(final int slot, final Reflector reflector, final Object o, final int[] lookups) {
+		final Map<Class<?>, Factory> cache = factories[slot];
+		synchronized (cache) {
+			final Factory f = cache.get(o.getClass());
+			if (f != null) {
+				lookups[0]++;
+				return f;
+			}
+		}
+		lookups[1]++;
+		Factory f = NONE;
+		for (final Factory e : o_types[slot]) {
+			if (reflector.isTypeOf(o, e.type)) {
+				f = e;
+				break;
+			}
+		}
+		synchronized (cache) {
+			cache.put(o.getClass(), f);
+		}
+		return f;
 	}
 
 	/**
@@ -155,4 +309,20 @@ public class Objects extends MobileIdNameQuery<GameObject> {
 	public GameObject nil() {
 		return new GameObject(ctx, null, GameObject.Type.UNKNOWN);
 	}
+
+	private static final class Stripe {
+		private final List<GameObject> items = new ArrayList<GameObject>();
+		private final Set<GameObject> set = new HashSet<GameObject>();
+		private final int[] lookups = new int[2];
+	}
+
+	private abstract static class Factory {
+		private final Class<? extends ReflectProxy> type;
+
+		private Factory(final Class<? extends ReflectProxy> type) {
+			this.type = type;
+		}
+
+		abstract RenderableEntity create(final Reflector reflector, final Object o);
+	}
 }
@@ -23,8 +23,7 @@ public class Player extends Actor {
 
 	@Override
 	public String name() {
-		final String n = player.getName();
-		return n != null ? n : "";
+		return (String) memo(MEMO_NAME);
 	}
 
 	@Override
@@ -32,6 +31,21 @@ public class Player extends Actor {
 		return player.getCombatLevel();
 	}
 
+	@Override
+	Object derive(final int slot) {
+		switch (slot) {
+		case MEMO_NAME:
+			return deriveName();
+		default:
+			return super.derive(slot);
+		}
+	}
+
+	private String deriveName() {
+		final String n = player.getName();
+		return n != null ? n : "";
+	}
+
 	public int team() {
 		return player.getTeam();
 	}
@@ -93,13 +107,7 @@ public class Player extends Actor {
 		if (client == null || character.isNull()) {
 			return false;
 		}
-		final org.powerbot.bot.rt6.client.Player[] players = client.getPlayers();
-		for (final org.powerbot.bot.rt6.client.Player p : players) {
-			if (character.equals(p)) {
-				return true;
-			}
-		}
-		return false;
+		return client.getPlayerArray().indexOf(character) != -1;
 	}
 
 	@Override
@@ -3,6 +3,7 @@ package org.powerbot.script.rt6;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.powerbot.bot.ProxyArray;
 import org.powerbot.bot.rt6.client.Client;
 import org.powerbot.bot.rt6.client.Player;
 
@@ -42,15 +43,14 @@ public class Players extends PlayerQuery<org.powerbot.script.rt6.Player> {
 
 		final int count = client.getPlayerCount();
 		final int[] keys = client.getPlayerIndices();
-		final Player[] arr = client.getPlayers();
-		if (keys == null || arr == null) {
+		if (keys == null) {
 			return players;
 		}
-		for (int i = 0; i < Math.min(Math.min(keys.length, arr.length), count); i++) {
+		final ProxyArray<Player> arr = client.getPlayerArray();
+		for (int i = 0; i < Math.min(Math.min(keys.length, arr.length()), count); i++) {
 			final int key = keys[i];
-			final Player player = arr[key];
-			if (!player.isNull()) {
-				players.add(new org.powerbot.script.rt6.Player(ctx, player));
+			if (!arr.isNull(key)) {
+				players.add(new org.powerbot.script.rt6.Player(ctx, arr.get(key)));
 			}
 		}
 		return players;
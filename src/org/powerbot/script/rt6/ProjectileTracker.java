@@ -0,0 +1,112 @@
+package org.powerbot.script.rt6;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.powerbot.script.Tile;
+
+/**
+ * ProjectileTracker
+ * Keeps the last few positions of every live projectile, sampled at most once per game cycle by {@link Entities}.
+ */
+final class ProjectileTracker {
+	private static final int HISTORY = 8;
+	private final ClientContext ctx;
+	private Map<Projectile, Track> tracks = new HashMap<Projectile, Track>();
+
+	ProjectileTracker(final ClientContext ctx) {
+		this.ctx = ctx;
+	}
+
+	/**
+	 * Records the position of every projectile and forgets those which are gone.
+	 * A second sample within the same game cycle replaces the first.
+	 *
+	 * @param projectiles the live projectiles
+	 * @param cycle       the game cycle the projectiles were read in
+	 */
+	synchronized void sample(final List<Projectile> projectiles, final int cycle) {
+		final long now = System.currentTimeMillis();
+		final Map<Projectile, Track> next = new HashMap<Projectile, Track>();
+		for (final Projectile p : projectiles) {
+			final RelativeLocation r = p.relative();
+			if (r == RelativeLocation.NIL) {
+				continue;
+			}
+			Track track = tracks.get(p);
+			if (track == null || track.floor != r.floor()) {
+				track = new Track(r.floor());
+			}
+			track.add(cycle, now, r.x() / 512d, r.z() / 512d);
+			next.put(p, track);
+		}
+		tracks = next;
+	}
+
+	/**
+	 * Fits the history of a projectile.
+	 *
+	 * @param projectile the projectile
+	 * @return the trajectory; or {@code null} if the projectile has not been sampled
+	 */
+	synchronized Trajectory trajectory(final Projectile projectile) {
+		final Track track = tracks.get(projectile);
+		if (track == null) {
+			return null;
+		}
+		final Tile base = ctx.game.mapOffset().derive(0, 0, track.floor);
+		return track.fit(projectile, base);
+	}
+
+	private static final class Track {
+		private final int floor;
+		private final int[] cycles = new int[HISTORY];
+		private final long[] t = new long[HISTORY];
+		private final double[] x = new double[HISTORY], z = new double[HISTORY];
+		private int head = 0, size = 0;
+
+		private Track(final int floor) {
+			this.floor = floor;
+		}
+
+		private void add(final int cycle, final long time, final double x, final double z) {
+			final int last = (head + HISTORY - 1) % HISTORY;
+			if (size > 0 && (cycles[last] == cycle || t[last] >= time)) {
+				this.x[last] = x;
+				this.z[last] = z;
+				return;
+			}
+			cycles[head] = cycle;
+			t[head] = time;
+			this.x[head] = x;
+			this.z[head] = z;
+			head = (head + 1) % HISTORY;
+			size = Math.min(size + 1, HISTORY);
+		}
+
+		private Trajectory fit(final Projectile projectile, final Tile base) {
+			final int last = (head + HISTORY - 1) % HISTORY;
+			double mt = 0d, mx = 0d, mz = 0d;
+			for (int i = 0; i < size; i++) {
+				final int j = (last - i + HISTORY) % HISTORY;
+				mt += t[j] - t[last];
+				mx += x[j];
+				mz += z[j];
+			}
+			mt /= size;
+			mx /= size;
+			mz /= size;
+			double tt = 0d, tx = 0d, tz = 0d;
+			for (int i = 0; i < size; i++) {
+				final int j = (last - i + HISTORY) % HISTORY;
+				final double dt = t[j] - t[last] - mt;
+				tt += dt * dt;
+				tx += dt * (x[j] - mx);
+				tz += dt * (z[j] - mz);
+			}
+			final double vx = tt > 0d ? tx / tt : 0d, vz = tt > 0d ? tz / tt : 0d;
+			return new Trajectory(projectile, base, x[last], z[last], vx, vz, t[last], size);
+		}
+	}
+}
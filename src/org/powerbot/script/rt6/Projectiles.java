@@ -1,22 +1,32 @@
 package org.powerbot.script.rt6;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.powerbot.bot.rt6.NodeQueue;
 import org.powerbot.bot.rt6.client.Client;
 import org.powerbot.bot.rt6.client.Projectile;
 import org.powerbot.bot.rt6.client.ProjectileNode;
+import org.powerbot.script.Filter;
+import org.powerbot.script.Locatable;
 
 /**
  * Projectiles
  * {@link Projectiles} is a utility which provides access to the game's projectiles.
  * <p/>
  * {@link org.powerbot.script.rt6.Projectile}s are game projectiles on the current plane which target an entity.
+ * Register {@link Entities.Kind#PROJECTILES} with {@link Entities} to sample their positions once per game cycle, from
+ * which their {@link Trajectory} is predicted, and to receive launch and impact events.
  */
 public class Projectiles extends IdQuery<org.powerbot.script.rt6.Projectile> {
+	private final ProjectileTracker tracker;
+
 	public Projectiles(final ClientContext factory) {
 		super(factory);
+		tracker = new ProjectileTracker(factory);
 	}
 
 	/**
@@ -41,6 +51,56 @@ public class Projectiles extends IdQuery<org.powerbot.script.rt6.Projectile> {
 		return items;
 	}
 
+	/**
+	 * Samples the position of every projectile for trajectory prediction.
+	 *
+	 * @param cycle the current game cycle
+	 */
+	void sample(final int cycle) {
+		tracker.sample(get(), cycle);
+	}
+
+	/**
+	 * Predicts the motion of a projectile from the positions sampled on previous game cycles.
+	 *
+	 * @param projectile the projectile
+	 * @return the trajectory; or {@code null} if the projectile is not tracked, such as when
+	 * {@link Entities.Kind#PROJECTILES} is not registered
+	 */
+	public Trajectory trajectory(final org.powerbot.script.rt6.Projectile projectile) {
+		return tracker.trajectory(projectile);
+	}
+
+	/**
+	 * Selects the projectiles predicted to reach a target, soonest first.
+	 *
+	 * @param target the target
+	 * @param within the maximum time until impact, in milliseconds
+	 * @return {@code this} for the purpose of chaining
+	 */
+	public IdQuery<org.powerbot.script.rt6.Projectile> incoming(final Locatable target, final long within) {
+		final Map<org.powerbot.script.rt6.Projectile, Long> impacts = new HashMap<org.powerbot.script.rt6.Projectile, Long>();
+		for (final org.powerbot.script.rt6.Projectile p : this) {
+			final Trajectory t = tracker.trajectory(p);
+			final long impact = t != null ? t.impact(target, 1d) : -1;
+			if (impact >= 0 && impact <= within) {
+				impacts.put(p, impact);
+			}
+		}
+		return select(new Filter<org.powerbot.script.rt6.Projectile>() {
+			@Override
+			public boolean accept(final org.powerbot.script.rt6.Projectile p) {
+				return impacts.containsKey(p);
+			}
+		}).sort(new Comparator<org.powerbot.script.rt6.Projectile>() {
+			@Override
+			public int compare(final org.powerbot.script.rt6.Projectile o1, final org.powerbot.script.rt6.Projectile o2) {
+				final long t1 = impacts.get(o1), t2 = impacts.get(o2);
+				return t1 < t2 ? -1 : t1 > t2 ? 1 : 0;
+			}
+		});
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
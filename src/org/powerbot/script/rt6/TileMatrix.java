@@ -113,8 +113,7 @@ public final class TileMatrix extends Interactive implements InteractiveEntity {
 	 * <code>false</code>.
 	 */
 	public boolean onMap() {
-		final Point p = mapPoint();
-		return p.x != -1 && p.y != -1;
+		return new Game.MinimapProjection(ctx.game).onMap(tile);
 	}
 
 	/**
@@ -17,6 +17,7 @@ public class TilePath extends Path {
 	protected Tile[] orig;
 	private boolean end;
 	private Tile last;
+	private byte[] usable = new byte[0];
 
 	public TilePath(final ClientContext ctx, final Tile[] tiles) {
 		super(ctx);
@@ -113,12 +114,19 @@ public class TilePath extends Path {
 		}
 		/* Get current destination */
 		final Tile dest = ctx.movement.destination();
+		/* Read the minimap once and remember which tiles are usable for the rest of this call */
+		final Game.MinimapProjection map = new Game.MinimapProjection(ctx.game);
+		if (usable.length != tiles.length) {
+			usable = new byte[tiles.length];
+		} else {
+			Arrays.fill(usable, (byte) 0);
+		}
 		/* Label main loop for continuing purposes */
 		out:
 		/* Iterate over all tiles but the first tile (0) starting with the last (length - 1). */
 		for (int i = tiles.length - 1; i > 0; --i) {
 			/* The tiles not in view, go to the next. */
-			if (!tiles[i].matrix(ctx).valid() || !tiles[i].matrix(ctx).onMap()) {
+			if (!usable(map, i)) {
 				continue;
 			}
 			/* If our destination is NIL, assume mid path and continue there. */
@@ -140,7 +148,7 @@ public class TilePath extends Path {
 				 * Explanation: Path wraps around something and must be followed.
 				 * We cannot suddenly click out of a "pathable" region (104x104).
 				 * In these cases, we can assume a better tile will become available. */
-				if (!tiles[a].matrix(ctx).valid() || !tiles[a].matrix(ctx).onMap()) {
+				if (!usable(map, a)) {
 					continue out;
 				}
 				/* If a tile (successor) is currently targeted, return the tile that was the "best"
@@ -159,17 +167,24 @@ public class TilePath extends Path {
 		final Player p = ctx.players.local();
 		if (p != null && !p.inMotion() && dest != Tile.NIL) {
 			for (int i = tiles.length - 1; i >= 0; --i) {
-				if (tiles[i].matrix(ctx).onMap()) {
+				if (map.onMap(tiles[i])) {
 					return tiles[i];
 				}
 			}
 		}
-		if (tiles.length == 0 || !tiles[0].matrix(ctx).onMap()) {
+		if (tiles.length == 0 || !map.onMap(tiles[0])) {
 			return null;
 		}
 		return tiles[0];
 	}
 
+	private boolean usable(final Game.MinimapProjection map, final int i) {
+		if (usable[i] == 0) {
+			usable[i] = map.valid(tiles[i]) && map.onMap(tiles[i]) ? (byte) 1 : (byte) 2;
+		}
+		return usable[i] == 1;
+	}
+
 	@Override
 	public Tile start() {
 		return tiles[0];
@@ -0,0 +1,110 @@
+package org.powerbot.script.rt6;
+
+import org.powerbot.script.Locatable;
+import org.powerbot.script.Tile;
+
+/**
+ * Trajectory
+ * The recent motion of a projectile, fitted to a constant velocity over the positions sampled on previous ticks.
+ */
+public class Trajectory {
+	private final Projectile projectile;
+	private final Tile base;
+	private final double x, z, vx, vz;
+	private final long time;
+	private final int samples;
+
+	Trajectory(final Projectile projectile, final Tile base, final double x, final double z,
+	           final double vx, final double vz, final long time, final int samples) {
+		this.projectile = projectile;
+		this.base = base;
+		this.x = x;
+		this.z = z;
+		this.vx = vx;
+		this.vz = vz;
+		this.time = time;
+		this.samples = samples;
+	}
+
+	public Projectile projectile() {
+		return projectile;
+	}
+
+	/**
+	 * Returns the number of positions the velocity was fitted to.
+	 *
+	 * @return the sample count; the velocity is zero with fewer than two
+	 */
+	public int samples() {
+		return samples;
+	}
+
+	/**
+	 * Returns the time the latest position was sampled at.
+	 *
+	 * @return the time, in milliseconds
+	 */
+	public long time() {
+		return time;
+	}
+
+	public Tile tile() {
+		return position(0);
+	}
+
+	/**
+	 * Returns the speed of the projectile.
+	 *
+	 * @return the speed, in tiles per second
+	 */
+	public double speed() {
+		return Math.sqrt(vx * vx + vz * vz) * 1000d;
+	}
+
+	/**
+	 * Predicts the position of the projectile.
+	 *
+	 * @param millis the time after the latest sample
+	 * @return the predicted tile
+	 */
+	public Tile position(final long millis) {
+		return base.derive((int) Math.floor(x + vx * millis), (int) Math.floor(z + vz * millis));
+	}
+
+	/**
+	 * Predicts when the projectile will pass within a distance of a target.
+	 *
+	 * @param target the target
+	 * @param radius the distance, in tiles, from the centre of the target's tile
+	 * @return the time after the latest sample, in milliseconds; or {@code -1} if it is not heading towards the target
+	 */
+	public long impact(final Locatable target, final double radius) {
+		final Tile t = target.tile();
+		if (t == Tile.NIL || base == Tile.NIL || t.floor() != base.floor()) {
+			return -1;
+		}
+		final double dx = t.x() - base.x() + 0.5d - x, dz = t.y() - base.y() + 0.5d - z;
+		final double d2 = dx * dx + dz * dz, r2 = radius * radius;
+		if (d2 <= r2) {
+			return 0;
+		}
+		final double v2 = vx * vx + vz * vz, dv = dx * vx + dz * vz;
+		final double disc = dv * dv - v2 * (d2 - r2);
+		if (v2 == 0d || dv <= 0d || disc < 0d) {
+			return -1;
+		}
+		return (long) Math.ceil((dv - Math.sqrt(disc)) / v2);
+	}
+
+	/**
+	 * Predicts where the projectile will pass within a distance of a target.
+	 *
+	 * @param target the target
+	 * @param radius the distance, in tiles, from the centre of the target's tile
+	 * @return the predicted tile; or {@link Tile#NIL} if it is not heading towards the target
+	 */
+	public Tile impactTile(final Locatable target, final double radius) {
+		final long t = impact(target, radius);
+		return t >= 0 ? position(t) : Tile.NIL;
+	}
+}